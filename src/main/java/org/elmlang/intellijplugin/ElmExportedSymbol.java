@@ -0,0 +1,92 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A value, type or union constructor exposed by a module, as stored in `ElmExportedSymbolIndex`.
+ */
+public class ElmExportedSymbol {
+    public enum Kind {
+        VALUE, TYPE, CONSTRUCTOR
+    }
+
+    public final String moduleName;
+    public final Kind kind;
+    @Nullable
+    public final String unionTypeName;
+
+    /**
+     * @param unionTypeName name of the type declaring the constructor, only for `Kind.CONSTRUCTOR`
+     */
+    public ElmExportedSymbol(@NotNull String moduleName, @NotNull Kind kind, @Nullable String unionTypeName) {
+        this.moduleName = moduleName;
+        this.kind = kind;
+        this.unionTypeName = unionTypeName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        ElmExportedSymbol that = (ElmExportedSymbol) o;
+        return this.moduleName.equals(that.moduleName)
+                && this.kind == that.kind
+                && Objects.equals(this.unionTypeName, that.unionTypeName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.moduleName, this.kind, this.unionTypeName);
+    }
+
+    @Override
+    public String toString() {
+        return "ElmExportedSymbol{" +
+                "moduleName='" + moduleName + '\'' +
+                ", kind=" + kind +
+                ", unionTypeName='" + unionTypeName + '\'' +
+                '}';
+    }
+
+    static final DataExternalizer<List<ElmExportedSymbol>> LIST_EXTERNALIZER = new DataExternalizer<List<ElmExportedSymbol>>() {
+        @Override
+        public void save(@NotNull DataOutput out, List<ElmExportedSymbol> symbols) throws IOException {
+            out.writeInt(symbols.size());
+            for (ElmExportedSymbol symbol : symbols) {
+                IOUtil.writeUTF(out, symbol.moduleName);
+                out.writeByte(symbol.kind.ordinal());
+                out.writeBoolean(symbol.unionTypeName != null);
+                if (symbol.unionTypeName != null) {
+                    IOUtil.writeUTF(out, symbol.unionTypeName);
+                }
+            }
+        }
+
+        @Override
+        public List<ElmExportedSymbol> read(@NotNull DataInput in) throws IOException {
+            int size = in.readInt();
+            List<ElmExportedSymbol> symbols = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String moduleName = IOUtil.readUTF(in);
+                Kind kind = Kind.values()[in.readByte()];
+                String unionTypeName = in.readBoolean() ? IOUtil.readUTF(in) : null;
+                symbols.add(new ElmExportedSymbol(moduleName, kind, unionTypeName));
+            }
+            return symbols;
+        }
+    };
+}
@@ -0,0 +1,138 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.elmlang.intellijplugin.psi.ElmTypeDeclaration;
+import org.elmlang.intellijplugin.psi.ElmUnionMember;
+import org.elmlang.intellijplugin.psi.ElmUpperCaseId;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Maps names of the values, types and union constructors exposed by modules to the modules exposing them.
+ */
+public class ElmExportedSymbolIndex extends FileBasedIndexExtension<String, List<ElmExportedSymbol>> {
+    private static final ID<String, List<ElmExportedSymbol>> ELM_EXPORTED_SYMBOL_INDEX = ID.create("ElmExportedSymbolIndex");
+
+    private static final EnumeratorStringDescriptor KEY_DESCRIPTOR = new EnumeratorStringDescriptor();
+
+    private static final DataIndexer<String, List<ElmExportedSymbol>, FileContent> INDEXER = inputData -> {
+        final PsiFile psiFile = inputData.getPsiFile();
+        if (!(psiFile instanceof ElmFile)) {
+            return Collections.emptyMap();
+        }
+        ElmFile file = (ElmFile) psiFile;
+        String moduleName = file.getModuleName();
+        if (moduleName == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<ElmExportedSymbol>> result = new HashMap<>();
+        file.getExposedValues()
+                .forEach(id -> add(result, id.getText(), new ElmExportedSymbol(moduleName, ElmExportedSymbol.Kind.VALUE, null)));
+        file.getExposedTypes()
+                .forEach(id -> add(result, id.getText(), createTypeSymbol(moduleName, id)));
+        return result;
+    };
+
+    private static final FileBasedIndex.InputFilter ELM_FILE_FILTER =
+            file -> file.getFileType() == ElmFileType.INSTANCE && file.isInLocalFileSystem();
+
+    /**
+     * @return the symbols exposed under `name`, paired with the files of their modules
+     */
+    @NotNull
+    public static List<Pair<ElmFile, ElmExportedSymbol>> find(@NotNull String name, @NotNull Project project, @NotNull GlobalSearchScope scope) {
+        return find(Collections.singleton(name), project, scope).get(name);
+    }
+
+    /**
+     * Looks up several names at once, so the files exposing more than one of them are found only once.
+     * @return the symbols exposed under each of the names, paired with the files of their modules, by name
+     */
+    @NotNull
+    public static Map<String, List<Pair<ElmFile, ElmExportedSymbol>>> find(@NotNull Collection<String> names, @NotNull Project project, @NotNull GlobalSearchScope scope) {
+        final PsiManager psiManager = PsiManager.getInstance(project);
+        final Map<VirtualFile, PsiFile> psiFiles = new HashMap<>();
+        Map<String, List<Pair<ElmFile, ElmExportedSymbol>>> result = new HashMap<>();
+        for (String name : names) {
+            List<Pair<ElmFile, ElmExportedSymbol>> found = result.computeIfAbsent(name, k -> new ArrayList<>());
+            FileBasedIndex.getInstance().processValues(ELM_EXPORTED_SYMBOL_INDEX, name, null, (virtualFile, symbols) -> {
+                ProgressManager.checkCanceled();
+                PsiFile psiFile = psiFiles.computeIfAbsent(virtualFile, psiManager::findFile);
+                if (psiFile instanceof ElmFile) {
+                    symbols.forEach(s -> found.add(Pair.create((ElmFile) psiFile, s)));
+                }
+                return true;
+            }, scope);
+        }
+        return result;
+    }
+
+    private static ElmExportedSymbol createTypeSymbol(String moduleName, ElmUpperCaseId id) {
+        PsiElement parent = id.getParent();
+        if (parent instanceof ElmUnionMember) {
+            String unionTypeName = ((ElmTypeDeclaration) parent.getParent()).getUpperCaseId().getText();
+            return new ElmExportedSymbol(moduleName, ElmExportedSymbol.Kind.CONSTRUCTOR, unionTypeName);
+        }
+        return new ElmExportedSymbol(moduleName, ElmExportedSymbol.Kind.TYPE, null);
+    }
+
+    private static void add(Map<String, List<ElmExportedSymbol>> result, String name, ElmExportedSymbol symbol) {
+        List<ElmExportedSymbol> symbols = result.computeIfAbsent(name, k -> new ArrayList<>());
+        if (!symbols.contains(symbol)) {
+            symbols.add(symbol);
+        }
+    }
+
+    @NotNull
+    @Override
+    public ID<String, List<ElmExportedSymbol>> getName() {
+        return ELM_EXPORTED_SYMBOL_INDEX;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<ElmExportedSymbol>, FileContent> getIndexer() {
+        return INDEXER;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return KEY_DESCRIPTOR;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<ElmExportedSymbol>> getValueExternalizer() {
+        return ElmExportedSymbol.LIST_EXTERNALIZER;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return ELM_FILE_FILTER;
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+}
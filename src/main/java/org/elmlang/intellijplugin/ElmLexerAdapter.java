@@ -1,11 +1,61 @@
 package org.elmlang.intellijplugin;
 
 import com.intellij.lexer.FlexAdapter;
+import com.intellij.lexer.FlexLexer;
+import com.intellij.psi.tree.IElementType;
 
+import java.io.IOException;
 import java.io.Reader;
 
 public class ElmLexerAdapter extends FlexAdapter {
     public ElmLexerAdapter() {
-        super(new ElmLexer((Reader) null));
+        super(new RestartableElmLexer(new ElmLexer((Reader) null)));
+    }
+
+    /**
+     * Keeps the depth of nested comments next to the lexical state (initial, comment or GLSL code),
+     * so the lexer can be restarted at any token from the state reported for it.
+     */
+    private static class RestartableElmLexer implements FlexLexer {
+        private static final int LEXICAL_STATE_BITS = 4;
+        private static final int LEXICAL_STATE_MASK = (1 << LEXICAL_STATE_BITS) - 1;
+
+        private final ElmLexer lexer;
+
+        private RestartableElmLexer(ElmLexer lexer) {
+            this.lexer = lexer;
+        }
+
+        @Override
+        public void yybegin(int state) {
+            this.lexer.yybegin(state & LEXICAL_STATE_MASK);
+            this.lexer.setCommentLevel(state >>> LEXICAL_STATE_BITS);
+        }
+
+        @Override
+        public int yystate() {
+            return this.lexer.yystate() | (this.lexer.getCommentLevel() << LEXICAL_STATE_BITS);
+        }
+
+        @Override
+        public int getTokenStart() {
+            return this.lexer.getTokenStart();
+        }
+
+        @Override
+        public int getTokenEnd() {
+            return this.lexer.getTokenEnd();
+        }
+
+        @Override
+        public IElementType advance() throws IOException {
+            return this.lexer.advance();
+        }
+
+        @Override
+        public void reset(CharSequence buffer, int start, int end, int initialState) {
+            this.lexer.reset(buffer, start, end, initialState & LEXICAL_STATE_MASK);
+            this.lexer.setCommentLevel(initialState >>> LEXICAL_STATE_BITS);
+        }
     }
 }
@@ -0,0 +1,236 @@
+package org.elmlang.intellijplugin;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.AdditionalLibraryRootsProvider;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.roots.SyntheticLibrary;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registers the sources of the installed packages as a read-only library, so they are indexed
+ * and resolved against, but not treated as project files.
+ * Packages are read from `elm-stuff/packages` for an `elm-package.json` project
+ * and from the package cache in `ELM_HOME` (by default `~/.elm`) for an `elm.json` project.
+ */
+public class ElmLibraryRootsProvider extends AdditionalLibraryRootsProvider {
+    private static final String ELM_JSON = "elm.json";
+    private static final String ELM_PACKAGE_JSON = "elm-package.json";
+    private static final String DEFAULT_SOURCE_DIRECTORY = "src";
+    private static final Pattern VERSION_RANGE = Pattern.compile("(\\S+)\\s*(<=?)\\s*v\\s*(<=?)\\s*(\\S+)");
+
+    @NotNull
+    @Override
+    public Collection<SyntheticLibrary> getAdditionalProjectLibraries(@NotNull Project project) {
+        Set<VirtualFile> sourceRoots = new LinkedHashSet<>();
+        for (VirtualFile contentRoot : ProjectRootManager.getInstance(project).getContentRoots()) {
+            sourceRoots.addAll(getPackageSourceRoots(contentRoot));
+        }
+        return sourceRoots.isEmpty()
+                ? Collections.emptyList()
+                : Collections.singletonList(SyntheticLibrary.newImmutableLibrary(sourceRoots));
+    }
+
+    @NotNull
+    static List<VirtualFile> getPackageSourceRoots(@NotNull VirtualFile projectRoot) {
+        return getPackageSourceRoots(projectRoot, getElmHome());
+    }
+
+    /**
+     * @param elmHome the `ELM_HOME` directory, or null if it does not exist
+     */
+    @NotNull
+    static List<VirtualFile> getPackageSourceRoots(@NotNull VirtualFile projectRoot, @Nullable VirtualFile elmHome) {
+        VirtualFile elmJson = projectRoot.findChild(ELM_JSON);
+        if (elmJson != null) {
+            return elmHome != null ? getSourceRootsFromPackageCache(elmJson, elmHome) : Collections.emptyList();
+        }
+        VirtualFile elmPackageJson = projectRoot.findChild(ELM_PACKAGE_JSON);
+        if (elmPackageJson != null) {
+            return getSourceRootsFromElmStuff(projectRoot);
+        }
+        return Collections.emptyList();
+    }
+
+    @Nullable
+    private static VirtualFile getElmHome() {
+        String elmHome = System.getenv("ELM_HOME");
+        String path = StringUtil.isEmpty(elmHome)
+                ? FileUtil.join(System.getProperty("user.home"), ".elm")
+                : elmHome;
+        return LocalFileSystem.getInstance().findFileByPath(FileUtil.toSystemIndependentName(path));
+    }
+
+    /**
+     * Packages of Elm 0.19 are shared by all projects, under `ELM_HOME/<elm version>/packages/<author>/<name>/<version>`.
+     */
+    @NotNull
+    private static List<VirtualFile> getSourceRootsFromPackageCache(@NotNull VirtualFile elmJson, @NotNull VirtualFile elmHome) {
+        JsonObject json = readJson(elmJson);
+        JsonElement elmVersion = json != null ? json.get("elm-version") : null;
+        VirtualFile packagesDirectory = elmVersion != null && elmVersion.isJsonPrimitive()
+                ? findPackagesDirectory(elmHome, elmVersion.getAsString())
+                : null;
+        if (packagesDirectory == null) {
+            return Collections.emptyList();
+        }
+        List<VirtualFile> result = new ArrayList<>();
+        for (Map.Entry<String, String> dependency : getDependencies(json).entrySet()) {
+            VirtualFile packageDirectory = packagesDirectory.findFileByRelativePath(dependency.getKey());
+            VirtualFile versionDirectory = packageDirectory != null
+                    ? findVersionDirectory(packageDirectory, dependency.getValue())
+                    : null;
+            if (versionDirectory != null) {
+                addSourceRoots(versionDirectory, ELM_JSON, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Packages of Elm 0.18 are installed in the project, under `elm-stuff/packages/<author>/<name>/<version>`.
+     */
+    @NotNull
+    private static List<VirtualFile> getSourceRootsFromElmStuff(@NotNull VirtualFile projectRoot) {
+        VirtualFile packagesDirectory = projectRoot.findFileByRelativePath("elm-stuff/packages");
+        if (packagesDirectory == null) {
+            return Collections.emptyList();
+        }
+        VirtualFile exactDependencies = projectRoot.findFileByRelativePath("elm-stuff/exact-dependencies.json");
+        JsonObject json = exactDependencies != null ? readJson(exactDependencies) : null;
+        List<VirtualFile> result = new ArrayList<>();
+        if (json != null) {
+            for (Map.Entry<String, JsonElement> dependency : json.entrySet()) {
+                if (!dependency.getValue().isJsonPrimitive()) {
+                    continue;
+                }
+                VirtualFile versionDirectory = packagesDirectory.findFileByRelativePath(
+                        dependency.getKey() + "/" + dependency.getValue().getAsString()
+                );
+                if (versionDirectory != null) {
+                    addSourceRoots(versionDirectory, ELM_PACKAGE_JSON, result);
+                }
+            }
+        } else {
+            for (VirtualFile author : packagesDirectory.getChildren()) {
+                for (VirtualFile name : author.getChildren()) {
+                    for (VirtualFile version : name.getChildren()) {
+                        addSourceRoots(version, ELM_PACKAGE_JSON, result);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param elmVersion the `elm-version` of `elm.json`
+     * @return the packages directory of the Elm version installed in `ELM_HOME` matching `elmVersion`
+     */
+    @Nullable
+    private static VirtualFile findPackagesDirectory(@NotNull VirtualFile elmHome, @NotNull String elmVersion) {
+        VirtualFile elmVersionDirectory = findVersionDirectory(elmHome, elmVersion);
+        if (elmVersionDirectory == null) {
+            return null;
+        }
+        // Elm 0.19.0 names the directory `package`, later versions name it `packages`
+        return elmVersionDirectory.findChild(
+                StringUtil.compareVersionNumbers(elmVersionDirectory.getName(), "0.19.1") < 0 ? "package" : "packages"
+        );
+    }
+
+    /**
+     * @param constraint an exact version for an application, a range like `1.0.0 <= v < 2.0.0` for a package
+     * @return the directory of the version itself, or of the highest installed version within the range
+     */
+    @Nullable
+    private static VirtualFile findVersionDirectory(@NotNull VirtualFile parent, @NotNull String constraint) {
+        Matcher range = VERSION_RANGE.matcher(constraint.trim());
+        if (!range.matches()) {
+            return parent.findChild(constraint.trim());
+        }
+        VirtualFile highest = null;
+        for (VirtualFile version : parent.getChildren()) {
+            if (version.isDirectory()
+                    && isAbove(version.getName(), range.group(1), range.group(2))
+                    && isAbove(range.group(4), version.getName(), range.group(3))
+                    && (highest == null || StringUtil.compareVersionNumbers(version.getName(), highest.getName()) > 0)) {
+                highest = version;
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * @param operator `<` or `<=`
+     */
+    private static boolean isAbove(@NotNull String version, @NotNull String bound, @NotNull String operator) {
+        int comparison = StringUtil.compareVersionNumbers(version, bound);
+        return operator.equals("<=") ? comparison >= 0 : comparison > 0;
+    }
+
+    @NotNull
+    private static Map<String, String> getDependencies(@NotNull JsonObject elmJson) {
+        Map<String, String> result = new LinkedHashMap<>();
+        addDependencies(elmJson.get("dependencies"), result);
+        addDependencies(elmJson.get("test-dependencies"), result);
+        return result;
+    }
+
+    /**
+     * Applications split dependencies into `direct` and `indirect` ones, packages list them directly.
+     */
+    private static void addDependencies(@Nullable JsonElement dependencies, @NotNull Map<String, String> result) {
+        if (dependencies == null || !dependencies.isJsonObject()) {
+            return;
+        }
+        for (Map.Entry<String, JsonElement> entry : dependencies.getAsJsonObject().entrySet()) {
+            if (entry.getValue().isJsonObject()) {
+                addDependencies(entry.getValue(), result);
+            } else if (entry.getValue().isJsonPrimitive()) {
+                result.putIfAbsent(entry.getKey(), entry.getValue().getAsString());
+            }
+        }
+    }
+
+    private static void addSourceRoots(@NotNull VirtualFile packageDirectory, @NotNull String descriptorName, @NotNull List<VirtualFile> result) {
+        VirtualFile descriptor = packageDirectory.findChild(descriptorName);
+        JsonObject json = descriptor != null ? readJson(descriptor) : null;
+        JsonElement sourceDirectories = json != null ? json.get("source-directories") : null;
+        if (sourceDirectories == null || !sourceDirectories.isJsonArray()) {
+            Optional.ofNullable(packageDirectory.findChild(DEFAULT_SOURCE_DIRECTORY)).ifPresent(result::add);
+            return;
+        }
+        for (JsonElement sourceDirectory : sourceDirectories.getAsJsonArray()) {
+            if (!sourceDirectory.isJsonPrimitive()) {
+                continue;
+            }
+            Optional.ofNullable(packageDirectory.findFileByRelativePath(sourceDirectory.getAsString()))
+                    .ifPresent(result::add);
+        }
+    }
+
+    @Nullable
+    private static JsonObject readJson(@NotNull VirtualFile file) {
+        try {
+            JsonElement json = new JsonParser().parse(VfsUtilCore.loadText(file));
+            return json.isJsonObject() ? json.getAsJsonObject() : null;
+        } catch (IOException | JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Files of the modules found through `ElmModuleIndex`, remembered by module name.
+ * The whole table is dropped after a change of a module declaration, of the file system structure or of the project roots,
+ * which are the changes that may move a module name to other files. Edits of the code elsewhere keep it.
+ */
+public class ElmModuleFiles {
+    private final Project project;
+    private final CachedValue<ConcurrentMap<String, List<SmartPsiElementPointer<ElmFile>>>> filesByModuleName;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ElmModuleFiles(@NotNull Project project) {
+        this.project = project;
+        this.filesByModuleName = CachedValuesManager.getManager(project).createCachedValue(() ->
+                CachedValueProvider.Result.create(
+                        new ConcurrentHashMap<>(),
+                        ElmModuleNameTracker.getInstance(project),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                        ProjectRootManager.getInstance(project)
+                ),
+                false
+        );
+    }
+
+    @NotNull
+    public static ElmModuleFiles getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ElmModuleFiles.class);
+    }
+
+    @NotNull
+    public List<ElmFile> getFiles(@NotNull String moduleName) {
+        ConcurrentMap<String, List<SmartPsiElementPointer<ElmFile>>> cache = this.filesByModuleName.getValue();
+        List<SmartPsiElementPointer<ElmFile>> pointers = cache.get(moduleName);
+        if (pointers != null) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+            pointers = this.createPointers(ElmModuleIndex.findFilesByModuleName(moduleName, this.project));
+            cache.putIfAbsent(moduleName, pointers);
+        }
+        return dereference(pointers);
+    }
+
+    public long getHitCount() {
+        return this.hits.get();
+    }
+
+    public long getMissCount() {
+        return this.misses.get();
+    }
+
+    @Override
+    public String toString() {
+        long hits = this.getHitCount();
+        long total = hits + this.getMissCount();
+        return String.format("ElmModuleFiles(%d hits out of %d lookups)", hits, total);
+    }
+
+    @NotNull
+    private List<SmartPsiElementPointer<ElmFile>> createPointers(@NotNull List<ElmFile> files) {
+        SmartPointerManager pointerManager = SmartPointerManager.getInstance(this.project);
+        List<SmartPsiElementPointer<ElmFile>> pointers = new ArrayList<>(files.size());
+        for (ElmFile file : files) {
+            pointers.add(pointerManager.createSmartPsiElementPointer(file));
+        }
+        return Collections.unmodifiableList(pointers);
+    }
+
+    @NotNull
+    private static List<ElmFile> dereference(@NotNull List<SmartPsiElementPointer<ElmFile>> pointers) {
+        List<ElmFile> files = new ArrayList<>(pointers.size());
+        for (SmartPsiElementPointer<ElmFile> pointer : pointers) {
+            ElmFile file = pointer.getElement();
+            if (file != null) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+}
@@ -1,16 +1,21 @@
 package org.elmlang.intellijplugin;
 
+import com.intellij.lexer.Lexer;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
 import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import org.elmlang.intellijplugin.psi.ElmFile;
+import org.elmlang.intellijplugin.psi.ElmTypes;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -26,8 +31,7 @@ public class ElmModuleIndex extends ScalarIndexExtension<String> {
     private static final EnumeratorStringDescriptor KEY_DESCRIPTOR = new EnumeratorStringDescriptor();
 
     private static final DataIndexer<String, Void, FileContent> INDEXER = inputData -> {
-        final PsiFile psiFile = inputData.getPsiFile();
-        final String moduleName = psiFile instanceof ElmFile ? ((ElmFile) psiFile).getModuleName() : null;
+        final String moduleName = readModuleName(inputData.getContentAsText());
         if (moduleName == null) {
             return Collections.emptyMap();
         } else if (moduleName.startsWith(PLATFORM_PREFIX)) {
@@ -44,7 +48,15 @@ public class ElmModuleIndex extends ScalarIndexExtension<String> {
 
     @NotNull
     public static List<ElmFile> getFilesByModuleName(String moduleName, Project project) {
-        return getFilesByModuleName(moduleName, project, GlobalSearchScope.projectScope(project));
+        return ElmModuleFiles.getInstance(project).getFiles(moduleName);
+    }
+
+    /**
+     * Looks the module up in the index without the cache of `ElmModuleFiles`.
+     */
+    @NotNull
+    static List<ElmFile> findFilesByModuleName(@NotNull String moduleName, @NotNull Project project) {
+        return getFilesByModuleName(moduleName, project, GlobalSearchScope.allScope(project));
     }
 
     public static Collection<String> getAllModuleNames(Project project) {
@@ -66,6 +78,58 @@ public class ElmModuleIndex extends ScalarIndexExtension<String> {
         return FileBasedIndex.getInstance().getContainingFiles(ELM_MODULE_INDEX, moduleName, searchScope);
     }
 
+    /**
+     * Reads the name from the `module X` header with the lexer only, so indexing never builds the PSI
+     * and edits below the header cannot change the indexed value.
+     * The scan stops at the first token following the module path.
+     */
+    @Nullable
+    static String readModuleName(@NotNull CharSequence text) {
+        Lexer lexer = new ElmLexerAdapter();
+        lexer.start(text);
+        skipTrivia(lexer);
+        if (lexer.getTokenType() == ElmTypes.PORT || isEffectKeyword(lexer)) {
+            lexer.advance();
+            skipTrivia(lexer);
+        }
+        if (lexer.getTokenType() != ElmTypes.MODULE) {
+            return null;
+        }
+        lexer.advance();
+        skipTrivia(lexer);
+        if (lexer.getTokenType() != ElmTypes.UPPER_CASE_IDENTIFIER) {
+            return null;
+        }
+        int start = lexer.getTokenStart();
+        int end = lexer.getTokenEnd();
+        lexer.advance();
+        while (lexer.getTokenType() == ElmTypes.DOT) {
+            lexer.advance();
+            if (lexer.getTokenType() != ElmTypes.UPPER_CASE_IDENTIFIER) {
+                break;
+            }
+            end = lexer.getTokenEnd();
+            lexer.advance();
+        }
+        return text.subSequence(start, end).toString();
+    }
+
+    private static void skipTrivia(@NotNull Lexer lexer) {
+        IElementType type = lexer.getTokenType();
+        while (type != null
+                && (type == ElmTypes.FRESH_LINE
+                || ElmParserDefinition.WHITE_SPACES.contains(type)
+                || ElmParserDefinition.COMMENTS.contains(type))) {
+            lexer.advance();
+            type = lexer.getTokenType();
+        }
+    }
+
+    private static boolean isEffectKeyword(@NotNull Lexer lexer) {
+        return lexer.getTokenType() == ElmTypes.LOWER_CASE_IDENTIFIER
+                && StringUtil.equals(lexer.getTokenSequence(), "effect");
+    }
+
     @NotNull
     @Override
     public ID<String, Void> getName() {
@@ -97,6 +161,6 @@ public class ElmModuleIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 2;
+        return 3;
     }
 }
\ No newline at end of file
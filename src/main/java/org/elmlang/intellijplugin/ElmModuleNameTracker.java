@@ -0,0 +1,88 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.*;
+import com.intellij.psi.impl.PsiTreeChangeEventImpl;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.elmlang.intellijplugin.psi.ElmModuleDeclaration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Counts the changes which may give a file another module name: edits of module declarations,
+ * edits at the top level of a file, where a module declaration may be added or removed,
+ * and changes of the content of Elm files outside of the editor.
+ * Other edits of the code leave it unchanged, so caches of module names survive typing in function bodies.
+ * Renaming, moving or deleting files is not counted, use `VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS` for that.
+ */
+public class ElmModuleNameTracker extends SimpleModificationTracker {
+
+    public ElmModuleNameTracker(@NotNull Project project) {
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childMoved(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+        }, project);
+
+        project.getMessageBus().connect(project).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (event instanceof VFileContentChangeEvent
+                            && ((VFileContentChangeEvent) event).getFile().getFileType() == ElmFileType.INSTANCE) {
+                        incModificationCount();
+                        return;
+                    }
+                }
+            }
+        });
+    }
+
+    @NotNull
+    public static ElmModuleNameTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ElmModuleNameTracker.class);
+    }
+
+    private void onPsiChange(@NotNull PsiTreeChangeEvent event) {
+        if (!(event.getFile() instanceof ElmFile)) {
+            return;
+        }
+        // a reparse ends with a generic change of the whole file, on top of the events of the elements it changed
+        if (event instanceof PsiTreeChangeEventImpl && ((PsiTreeChangeEventImpl) event).isGenericChange()) {
+            return;
+        }
+        PsiElement parent = event.getParent();
+        if (parent instanceof PsiFile || PsiTreeUtil.getParentOfType(parent, ElmModuleDeclaration.class, false) != null) {
+            incModificationCount();
+        }
+    }
+}
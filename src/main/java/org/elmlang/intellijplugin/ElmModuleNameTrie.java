@@ -0,0 +1,68 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Names of the modules indexed by `ElmModuleIndex`, split on dots into a tree of segments.
+ * Rebuilt after a change of a module declaration, of the file system structure or of the project roots,
+ * which are the changes that may add or remove a module name.
+ */
+public class ElmModuleNameTrie {
+    private final Node root = new Node();
+
+    private ElmModuleNameTrie(@NotNull Collection<String> moduleNames) {
+        moduleNames.forEach(this::add);
+    }
+
+    @NotNull
+    public static ElmModuleNameTrie forProject(@NotNull Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(project, () ->
+                CachedValueProvider.Result.create(
+                        new ElmModuleNameTrie(ElmModuleIndex.getAllModuleNames(project)),
+                        ElmModuleNameTracker.getInstance(project),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                        ProjectRootManager.getInstance(project)
+                )
+        );
+    }
+
+    /**
+     * @param prefix dot-separated segments, or an empty string for the root
+     * @return segments following `prefix` in the module names
+     */
+    @NotNull
+    public Collection<String> getNextSegments(@NotNull String prefix) {
+        Node node = this.root;
+        if (!prefix.isEmpty()) {
+            for (String segment : StringUtil.split(prefix, ".")) {
+                node = node.children.get(segment);
+                if (node == null) {
+                    return Collections.emptyList();
+                }
+            }
+        }
+        return Collections.unmodifiableCollection(node.children.keySet());
+    }
+
+    private void add(@NotNull String moduleName) {
+        Node node = this.root;
+        for (String segment : StringUtil.split(moduleName, ".")) {
+            node = node.children.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+    }
+}
@@ -1,7 +1,6 @@
 package org.elmlang.intellijplugin;
 
 import com.intellij.lang.ASTNode;
-import com.intellij.lang.Language;
 import com.intellij.lang.ParserDefinition;
 import com.intellij.lang.PsiParser;
 import com.intellij.lexer.Lexer;
@@ -17,6 +16,7 @@ import org.elmlang.intellijplugin.manualParsing.ElmManualPsiElementFactory;
 import org.elmlang.intellijplugin.parser.ElmParser;
 import org.elmlang.intellijplugin.psi.ElmFile;
 import org.elmlang.intellijplugin.psi.ElmTypes;
+import org.elmlang.intellijplugin.psi.stubs.ElmFileStubElementType;
 import org.jetbrains.annotations.NotNull;
 
 public class ElmParserDefinition implements ParserDefinition {
@@ -29,7 +29,7 @@ public class ElmParserDefinition implements ParserDefinition {
             ElmTypes.COMMENT_CONTENT
         );
 
-    public static final IFileElementType FILE = new IFileElementType(Language.<ElmLanguage>findInstance(ElmLanguage.class));
+    public static final IFileElementType FILE = ElmFileStubElementType.INSTANCE;
 
     @NotNull
     @Override
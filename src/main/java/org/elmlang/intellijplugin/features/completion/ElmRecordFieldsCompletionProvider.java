@@ -4,14 +4,12 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import org.elmlang.intellijplugin.psi.ElmFile;
 import org.elmlang.intellijplugin.psi.scope.ElmScope;
 
-import static org.elmlang.intellijplugin.features.completion.ElmCompletionHelper.addPsiElementToResult;
-import static org.elmlang.intellijplugin.features.completion.ElmCompletionHelper.forEachUntilNonPresent;
+import static org.elmlang.intellijplugin.features.completion.ElmCompletionHelper.addStringToResult;
 
 class ElmRecordFieldsCompletionProvider {
     void addCompletions(ElmFile file, CompletionResultSet resultSet) {
-        forEachUntilNonPresent(
-                ElmScope.recordFieldsFor(file),
-                e -> addPsiElementToResult(e, resultSet)
-        );
+        ElmScope.recordFieldsFor(file)
+                .distinct()
+                .forEach(e -> addStringToResult(e, resultSet));
     }
 }
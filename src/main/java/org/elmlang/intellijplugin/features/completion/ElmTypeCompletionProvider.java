@@ -11,9 +11,7 @@ class ElmTypeCompletionProvider {
     void addCompletions(ElmFile file, CompletionResultSet resultSet) {
         ElmCoreLibrary.getBuiltInSymbols()
                 .forEach(s -> addStringToResult(s, resultSet));
-        forEachUntilNonPresent(
-                ElmScope.typesFor(file),
-                e -> addPsiElementToResult(e, resultSet)
-        );
+        ElmScope.typesFor(file)
+                .forEach(e -> addPsiElementToResult(e, resultSet));
     }
 }
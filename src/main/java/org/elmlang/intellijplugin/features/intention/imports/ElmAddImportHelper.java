@@ -21,12 +21,19 @@ public class ElmAddImportHelper {
     }
 
     public static void addOrUpdateImport(ElmFile sourceFile, String moduleName, @Nullable String nameToImport, boolean importAsQualified) {
+        addOrUpdateImport(sourceFile, moduleName, importAsQualified ? Collections.emptyList() : Collections.singletonList(nameToImport));
+    }
+
+    /**
+     * @param namesToImport names to add to the exposing clause, or an empty list to only import the module
+     */
+    public static void addOrUpdateImport(ElmFile sourceFile, String moduleName, List<String> namesToImport) {
         Project project = sourceFile.getProject();
 
         // Create a new, stand-alone import based solely on the quick-fix
-        ElmImportClause newImport = importAsQualified
+        ElmImportClause newImport = namesToImport.isEmpty()
                 ? ElmElementFactory.createImport(project, moduleName)
-                : ElmElementFactory.createImportExposing(project, moduleName, nameToImport);
+                : ElmElementFactory.createImportExposing(project, moduleName, namesToImport);
 
         // If there are any existing imports for the same module, merge with it
         Optional<ElmImportClause> existingImportClause = sourceFile.getImportClauseByModuleName(moduleName);
@@ -42,6 +49,69 @@ public class ElmAddImportHelper {
         }
     }
 
+    /**
+     * Adds or updates the imports of several modules, rewriting the import clauses of the file once
+     * instead of once per module.
+     * @param namesToImportByModule names to add to the exposing clause by module name, or an empty list to only import the module
+     */
+    public static void addOrUpdateImports(ElmFile sourceFile, Map<String, List<String>> namesToImportByModule) {
+        Project project = sourceFile.getProject();
+
+        // the modules not imported yet, sorted by name
+        TreeMap<String, String> newImports = new TreeMap<>();
+        namesToImportByModule.forEach((moduleName, namesToImport) -> {
+            if (!sourceFile.getImportClauseByModuleName(moduleName).isPresent()) {
+                newImports.put(moduleName, namesToImport.isEmpty()
+                        ? String.format("import %s", moduleName)
+                        : String.format("import %s exposing (%s)", moduleName, String.join(", ", namesToImport)));
+            }
+        });
+
+        List<ElmImportClause> existingImportClauses = sourceFile.getImportClauses();
+        if (existingImportClauses.isEmpty()) {
+            if (!newImports.isEmpty()) {
+                ASTNode insertPosition = prepareInsertInNewSection(sourceFile, project);
+                insertImportSection(String.join("\n", newImports.values()), insertPosition);
+            }
+            return;
+        }
+
+        ElmImportClause firstImport = existingImportClauses.get(0);
+        ElmImportClause lastImport = existingImportClauses.get(existingImportClauses.size() - 1);
+        StringBuilder section = new StringBuilder();
+        boolean changed = !newImports.isEmpty();
+        for (PsiElement element = firstImport; element != lastImport.getNextSibling(); element = element.getNextSibling()) {
+            if (!(element instanceof ElmImportClause)) {
+                section.append(element.getText());
+                continue;
+            }
+            ElmImportClause importClause = (ElmImportClause) element;
+            String moduleName = importClause.getModuleName().getText();
+
+            // same position as a single import: before the first import sorted after it
+            SortedMap<String, String> importsBefore = newImports.headMap(moduleName);
+            importsBefore.values().forEach(text -> section.append(text).append('\n'));
+            importsBefore.clear();
+
+            List<String> namesToImport = namesToImportByModule.get(moduleName);
+            if (namesToImport == null || namesToImport.isEmpty()) {
+                section.append(importClause.getText());
+            } else {
+                ElmImportClause newImport = ElmElementFactory.createImportExposing(project, moduleName, namesToImport);
+                section.append(mergeImports(sourceFile, importClause, newImport).getText());
+                changed = true;
+            }
+        }
+        newImports.values().forEach(text -> section.append('\n').append(text));
+
+        if (changed) {
+            ASTNode parent = firstImport.getNode().getTreeParent();
+            ASTNode afterLastImport = lastImport.getNode().getTreeNext();
+            parent.addChildren(ElmElementFactory.createImportSection(project, section.toString()).getNode().getFirstChildNode(), null, firstImport.getNode());
+            parent.removeRange(firstImport.getNode(), afterLastImport);
+        }
+    }
+
     private static ElmImportClause mergeImports(ElmFile sourceFile, ElmImportClause import1, ElmImportClause import2) {
         assert Objects.equals(import1.getModuleName().getText(),
                               import2.getModuleName().getText());
@@ -201,6 +271,17 @@ public class ElmAddImportHelper {
         }
     }
 
+    private static void insertImportSection(String importClauses, ASTNode insertPosition) {
+        Project project = insertPosition.getPsi().getProject();
+        ASTNode parent = insertPosition.getTreeParent();
+        parent.addChildren(ElmElementFactory.createImportSection(project, importClauses).getNode().getFirstChildNode(), null, insertPosition);
+
+        // ensure that a freshline exists immediately following the new import clauses
+        if (insertPosition.getElementType() != ElmTypes.FRESH_LINE) {
+            parent.addChild(ElmElementFactory.createFreshLine(project).getNode(), insertPosition);
+        }
+    }
+
     private static void insertImportClause(ElmImportClause importClause, ASTNode insertPosition) {
         Project project = importClause.getProject();
         ASTNode parent = insertPosition.getTreeParent();
@@ -0,0 +1,134 @@
+package org.elmlang.intellijplugin.features.intention.imports;
+
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.IncorrectOperationException;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.elmlang.intellijplugin.psi.references.annotation.UnresolvedReferences;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Adds imports for all the unresolved names of a file exported by exactly one module.
+ * The names are collected and looked up in the background, then the import clauses are rewritten once, in a single command.
+ */
+public class ElmImportAllQuickFix implements IntentionAction {
+
+    @Override
+    public String getText() {
+        return "Import all unresolved names";
+    }
+
+    @Override
+    public String getFamilyName() {
+        return "style";
+    }
+
+    @Override
+    public boolean isAvailable(@NotNull Project project, Editor editor, PsiFile file) {
+        return file instanceof ElmFile;
+    }
+
+    @Override
+    public boolean startInWriteAction() {
+        return false;
+    }
+
+    @Override
+    public void invoke(@NotNull Project project, Editor editor, PsiFile file) throws IncorrectOperationException {
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Searching modules exporting unresolved names", true) {
+            private Map<String, List<String>> namesToImportByModule = Collections.emptyMap();
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                // the read action gives way to write actions, and the search starts again once they are done
+                while (!ProgressIndicatorUtils.runInReadActionWithWriteActionPriority(
+                        () -> this.namesToImportByModule = file.isValid()
+                                ? findNamesToImport(project, collectUnresolvedNames(file))
+                                : Collections.emptyMap(), indicator)) {
+                    indicator.checkCanceled();
+                    ProgressIndicatorUtils.yieldToPendingWriteActions();
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                if (!project.isDisposed() && file.isValid() && !this.namesToImportByModule.isEmpty()) {
+                    addImports(project, (ElmFile) file, this.namesToImportByModule);
+                }
+            }
+        });
+    }
+
+    private static Set<String> collectUnresolvedNames(PsiFile file) {
+        Set<String> names = new LinkedHashSet<>();
+        PsiTreeUtil.processElements(file, element -> {
+            UnresolvedReferences.getUnresolvedReferences(element)
+                    .filter(UnresolvedReferences::canBeFixedByImport)
+                    .forEach(r -> names.add(r.getReferencingElement().getText()));
+            return true;
+        });
+        return names;
+    }
+
+    /**
+     * @return names to add to the exposing clause of the import, by module name.
+     * Modules only used in qualified names map to an empty list.
+     */
+    private static Map<String, List<String>> findNamesToImport(Project project, Set<String> names) {
+        // exposed values and types by module, with the constructors exposed for each type
+        Map<String, Map<String, Set<String>>> exposedByModule = new TreeMap<>();
+        List<List<String>> references = names.stream()
+                .map(ElmImportQuickFix::splitReferenceName)
+                .collect(Collectors.toList());
+        Map<List<String>, List<ElmImportCandidate>> candidatesByReference = ElmImportQuickFix.findCandidates(project, references);
+        for (List<String> refComponents : references) {
+            ProgressManager.checkCanceled();
+            List<ElmImportCandidate> candidates = candidatesByReference.get(refComponents);
+            if (candidates.size() != 1) {
+                // ambiguous names are left to the single name quick fix, which lets the user choose
+                continue;
+            }
+            ElmImportCandidate candidate = candidates.get(0);
+            Map<String, Set<String>> exposed = exposedByModule.computeIfAbsent(candidate.moduleName, k -> new TreeMap<>());
+            if (refComponents.size() > 1) {
+                continue;
+            }
+            if (candidate.name.equals(candidate.nameForImport)) {
+                exposed.computeIfAbsent(candidate.name, k -> new TreeSet<>());
+            } else {
+                String typeName = candidate.nameForImport.substring(0, candidate.nameForImport.indexOf('('));
+                exposed.computeIfAbsent(typeName, k -> new TreeSet<>()).add(candidate.name);
+            }
+        }
+
+        Map<String, List<String>> result = new TreeMap<>();
+        exposedByModule.forEach((moduleName, exposed) -> {
+            List<String> namesToImport = new ArrayList<>();
+            exposed.forEach((exposedName, constructors) -> namesToImport.add(constructors.isEmpty()
+                    ? exposedName
+                    : exposedName + "(" + String.join(", ", constructors) + ")"));
+            result.put(moduleName, namesToImport);
+        });
+        return result;
+    }
+
+    private static void addImports(Project project, ElmFile file, Map<String, List<String>> namesToImportByModule) {
+        new WriteCommandAction.Simple(project, file) {
+            @Override
+            protected void run() throws Throwable {
+                ElmAddImportHelper.addOrUpdateImports(file, namesToImportByModule);
+            }
+        }.execute();
+    }
+}
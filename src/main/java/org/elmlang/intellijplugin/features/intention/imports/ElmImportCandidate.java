@@ -15,7 +15,7 @@ public class ElmImportCandidate {
      *                      Typically this is the same as `name`, but when importing
      *                      a bare union type member, it will be the parenthesized
      *                      form: "TypeName(MemberName)"
-     * @param element       the value/type element in the module-to-be-imported
+     * @param element       the module-to-be-imported
      */
     public ElmImportCandidate(String moduleName, String name, String nameForImport, PsiElement element) {
         this.moduleName = moduleName;
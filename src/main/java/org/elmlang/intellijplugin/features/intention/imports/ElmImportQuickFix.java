@@ -5,12 +5,19 @@ import com.intellij.codeInsight.intention.IntentionAction;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.popup.JBPopupFactory;
+import com.intellij.openapi.util.Pair;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.ui.components.JBList;
 import com.intellij.util.IncorrectOperationException;
-import org.elmlang.intellijplugin.ElmModuleIndex;
+import org.elmlang.intellijplugin.ElmExportedSymbol;
+import org.elmlang.intellijplugin.ElmExportedSymbolIndex;
 import org.elmlang.intellijplugin.psi.*;
 import org.jetbrains.annotations.NotNull;
 
@@ -20,7 +27,6 @@ import java.util.*;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class ElmImportQuickFix implements IntentionAction {
 
@@ -52,80 +58,89 @@ public class ElmImportQuickFix implements IntentionAction {
 
     @Override
     public void invoke(@NotNull Project project, Editor editor, PsiFile file) throws IncorrectOperationException {
-        List<String> refComponents = Arrays.asList(referenceNameToFix.split(Pattern.quote(".")));
+        List<String> refComponents = splitReferenceName(referenceNameToFix);
 
-        List<ElmImportCandidate> candidates = findCandidates(project, refComponents);
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Searching modules exporting '" + referenceNameToFix + "'", true) {
+            private List<ElmImportCandidate> candidates = Collections.emptyList();
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                // the read action gives way to write actions, and the search starts again once they are done
+                while (!ProgressIndicatorUtils.runInReadActionWithWriteActionPriority(
+                        () -> this.candidates = findCandidates(project, refComponents), indicator)) {
+                    indicator.checkCanceled();
+                    ProgressIndicatorUtils.yieldToPendingWriteActions();
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                if (!project.isDisposed() && !editor.isDisposed() && file.isValid()) {
+                    fixWithCandidates(project, editor, (ElmFile) file, refComponents, this.candidates);
+                }
+            }
+        });
+    }
+
+    private void fixWithCandidates(@NotNull Project project, Editor editor, ElmFile file, List<String> refComponents, List<ElmImportCandidate> candidates) {
         if (candidates.isEmpty()) {
             HintManager.getInstance().showErrorHint(editor, "No module exporting '" + referenceNameToFix + "' found");
         } else if (candidates.size() == 1) {
             ElmImportCandidate candidate = candidates.get(0);
-            fixWithCandidate(project, (ElmFile) file, refComponents, candidate);
+            fixWithCandidate(project, file, refComponents, candidate);
         } else {
             List<ElmImportCandidate> sortedCandidates = new ArrayList<>(candidates);
             sortedCandidates.sort((a,b) -> a.moduleName.compareTo(b.moduleName));
-            promptToSelectCandidate(project, (ElmFile) file, refComponents, sortedCandidates);
+            promptToSelectCandidate(project, file, refComponents, sortedCandidates);
         }
     }
 
-    private List<ElmImportCandidate> findCandidates(@NotNull Project project, List<String>refComponents) {
-        String refBareName;
-        Stream<String> moduleNamesToSearch;
-
-        if (refComponents.size() > 1) {
-            refBareName = refComponents.get(refComponents.size()-1);
-            String refQualifiedModuleName = String.join(".", refComponents.subList(0, refComponents.size()-1));
-            moduleNamesToSearch = Arrays.asList(refQualifiedModuleName).stream();
-        } else {
-            refBareName = referenceNameToFix;
-            moduleNamesToSearch = ElmModuleIndex.getAllModuleNames(project).stream();
-        }
+    static List<String> splitReferenceName(String referenceName) {
+        return Arrays.asList(referenceName.split(Pattern.quote(".")));
+    }
 
-        Stream<ElmImportCandidate> candidates =
-                refBareName.matches("^[A-Z].*")
-                        ? getUpperCaseCandidates(project, moduleNamesToSearch, refBareName)
-                        : getLowerCaseCandidates(project, moduleNamesToSearch, refBareName);
-        return candidates.collect(Collectors.toList());
+    static List<ElmImportCandidate> findCandidates(@NotNull Project project, List<String> refComponents) {
+        return findCandidates(project, Collections.singletonList(refComponents)).get(refComponents);
     }
 
-    private Stream<ElmImportCandidate> getLowerCaseCandidates(@NotNull Project project, Stream<String> moduleNames, String refBareName) {
-        return moduleNames
-                .flatMap(name -> ElmModuleIndex.getFilesByModuleName(name, project).stream())
-                .map(f -> f.getExposedValueByName(refBareName))
-                .filter(Optional::isPresent)
-                .map(e -> {
-                    ElmLowerCaseId value = e.get();
-                    ElmFile module = (ElmFile) value.getContainingFile();
-                    String nameForImport = value.getName();
-                    return new ElmImportCandidate(
-                            module.getModuleName(),
-                            value.getName(),
-                            nameForImport,
-                            value
-                    );
-                });
+    /**
+     * Looks up the bare names of all the references in a single index query.
+     * @return candidates by reference, each given as split by {@link #splitReferenceName(String)}
+     */
+    static Map<List<String>, List<ElmImportCandidate>> findCandidates(@NotNull Project project, Collection<List<String>> references) {
+        Set<String> refBareNames = references.stream()
+                .map(refComponents -> refComponents.get(refComponents.size()-1))
+                .collect(Collectors.toSet());
+        Map<String, List<Pair<ElmFile, ElmExportedSymbol>>> symbolsByName =
+                ElmExportedSymbolIndex.find(refBareNames, project, GlobalSearchScope.allScope(project));
+
+        Map<List<String>, List<ElmImportCandidate>> result = new HashMap<>();
+        for (List<String> refComponents : references) {
+            String refBareName = refComponents.get(refComponents.size()-1);
+            String refQualifiedModuleName = refComponents.size() > 1
+                    ? String.join(".", refComponents.subList(0, refComponents.size()-1))
+                    : null;
+
+            boolean upperCase = refBareName.matches("^[A-Z].*");
+            result.put(refComponents, symbolsByName.get(refBareName).stream()
+                    .filter(p -> (p.second.kind == ElmExportedSymbol.Kind.VALUE) != upperCase)
+                    .filter(p -> refQualifiedModuleName == null || refQualifiedModuleName.equals(p.second.moduleName))
+                    .map(p -> createCandidate(p.first, p.second, refBareName))
+                    .collect(Collectors.toList()));
+        }
+        return result;
     }
 
-    private Stream<ElmImportCandidate> getUpperCaseCandidates(@NotNull Project project, Stream<String> moduleNames, String refBareName) {
-        return moduleNames
-                .flatMap(name -> ElmModuleIndex.getFilesByModuleName(name, project).stream())
-                .map(f -> f.getExposedType(refBareName))
-                .filter(Optional::isPresent)
-                .map(e -> {
-                    ElmUpperCaseId value = e.get();
-                    ElmFile module = (ElmFile) value.getContainingFile();
-                    String nameForImport = value.getName();
-                    if (value.getParent() instanceof ElmUnionMember) {
-                        ElmTypeDeclaration typeDecl = (ElmTypeDeclaration) value.getParent().getParent();
-                        String typeName = typeDecl.getUpperCaseId().getText();
-                        nameForImport = typeName + "(" + value.getName() + ")";
-                    }
-                    return new ElmImportCandidate(
-                            module.getModuleName(),
-                            value.getName(),
-                            nameForImport,
-                            value
-                    );
-                });
+    private static ElmImportCandidate createCandidate(ElmFile module, ElmExportedSymbol symbol, String refBareName) {
+        String nameForImport = symbol.kind == ElmExportedSymbol.Kind.CONSTRUCTOR
+                ? symbol.unionTypeName + "(" + refBareName + ")"
+                : refBareName;
+        return new ElmImportCandidate(
+                symbol.moduleName,
+                refBareName,
+                nameForImport,
+                module
+        );
     }
 
     private void promptToSelectCandidate(@NotNull final Project project, final ElmFile file, final List<String> refComponents, List<ElmImportCandidate> candidates) {
@@ -0,0 +1,144 @@
+package org.elmlang.intellijplugin.features.syntaxHighlighting;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.daemon.impl.HighlightInfoType;
+import com.intellij.codeInsight.daemon.impl.HighlightVisitor;
+import com.intellij.codeInsight.daemon.impl.analysis.HighlightInfoHolder;
+import com.intellij.openapi.editor.colors.TextAttributesKey;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import org.elmlang.intellijplugin.psi.*;
+import org.elmlang.intellijplugin.psi.references.annotation.UnresolvedReferences;
+import org.elmlang.intellijplugin.utils.ListUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.intellij.openapi.editor.DefaultLanguageHighlighterColors.KEYWORD;
+import static org.elmlang.intellijplugin.features.syntaxHighlighting.ElmSyntaxHighlighter.*;
+
+/**
+ * Highlights names and reports unresolved references of each element visited by the highlighting pass.
+ * The kind of the enclosing construct is computed once per parent and reused by all its children.
+ */
+public class ElmHighlightVisitor implements HighlightVisitor {
+    private final Map<PsiElement, Context> childrenContexts = new HashMap<>();
+    private HighlightInfoHolder holder;
+
+    private enum Context {
+        CODE,
+        // module declaration and imports, where upper case names are modules rather than types
+        HEADER,
+        TYPE_ANNOTATION,
+        TYPE_ANNOTATION_SIGNATURE
+    }
+
+    @Override
+    public boolean suitableForFile(@NotNull PsiFile file) {
+        return file instanceof ElmFile;
+    }
+
+    @Override
+    public void visit(@NotNull PsiElement element) {
+        UnresolvedReferences.getUnresolvedReferences(element)
+                .forEach(r -> this.add(UnresolvedReferences.createHighlightInfo(r)));
+        this.highlight(element, this.getContext(element));
+    }
+
+    @Override
+    public boolean analyze(@NotNull PsiFile file, boolean updateWholeFile, @NotNull HighlightInfoHolder holder, @NotNull Runnable action) {
+        this.holder = holder;
+        try {
+            action.run();
+        } finally {
+            this.holder = null;
+            this.childrenContexts.clear();
+        }
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public HighlightVisitor clone() {
+        return new ElmHighlightVisitor();
+    }
+
+    @Override
+    public int order() {
+        return 0;
+    }
+
+    @NotNull
+    private Context getContext(@NotNull PsiElement element) {
+        PsiElement parent = element.getParent();
+        if (parent == null || parent instanceof PsiFile) {
+            return Context.CODE;
+        }
+        Context context = this.childrenContexts.get(parent);
+        if (context == null) {
+            context = getChildrenContext(parent, this.getContext(parent));
+            this.childrenContexts.put(parent, context);
+        }
+        return context;
+    }
+
+    @NotNull
+    private static Context getChildrenContext(@NotNull PsiElement element, @NotNull Context context) {
+        if (element instanceof ElmModuleDeclaration || element instanceof ElmImportClause) {
+            return Context.HEADER;
+        } else if (element instanceof ElmTypeAnnotation) {
+            return Context.TYPE_ANNOTATION;
+        } else if (element instanceof ElmTypeDefinition && context == Context.TYPE_ANNOTATION) {
+            return Context.TYPE_ANNOTATION_SIGNATURE;
+        }
+        return context;
+    }
+
+    private void highlight(@NotNull PsiElement element, @NotNull Context context) {
+        if (element instanceof ElmValueDeclaration) {
+            this.highlightValueDeclaration((ElmValueDeclaration) element);
+        } else if (element instanceof ElmTypeAnnotation) {
+            Optional.ofNullable(((ElmTypeAnnotation) element).getLowerCaseId())
+                    .ifPresent(e -> this.highlightElement(e, ELM_TYPE_ANNOTATION_NAME));
+        } else if (context == Context.TYPE_ANNOTATION_SIGNATURE
+                && (element instanceof ElmLowerCaseId || element instanceof ElmUpperCaseId)) {
+            this.highlightElement(element, ELM_TYPE_ANNOTATION_SIGNATURE_TYPES);
+        } else if (context == Context.CODE && element instanceof ElmUpperCaseId) {
+            this.highlightElement(element, ELM_TYPE);
+        } else if (element instanceof ElmEffect) {
+            this.highlightElement(element, KEYWORD);
+        }
+    }
+
+    private void highlightValueDeclaration(@NotNull ElmValueDeclaration declaration) {
+        // First try treating it as a function declaration
+        ElmLowerCaseId nameElement = Optional.ofNullable(declaration.getFunctionDeclarationLeft())
+                .map(ElmFunctionDeclarationLeft::getLowerCaseId)
+                // Fallback to a generic (null-ary) value declaration
+                .orElseGet(() ->
+                        Optional.ofNullable(declaration.getPattern())
+                                .flatMap(p -> ListUtils.head(p.getLowerCaseIdList()))
+                                .orElse(null)
+                );
+
+        if (nameElement != null) {
+            this.highlightElement(nameElement, ELM_DEFINITION_NAME);
+        }
+    }
+
+    private void highlightElement(@NotNull PsiElement element, TextAttributesKey key) {
+        this.add(HighlightInfo.newHighlightInfo(HighlightInfoType.INFORMATION)
+                .range(element)
+                .textAttributes(key)
+                .create());
+    }
+
+    private void add(@Nullable HighlightInfo info) {
+        if (info != null) {
+            this.holder.add(info);
+        }
+    }
+}
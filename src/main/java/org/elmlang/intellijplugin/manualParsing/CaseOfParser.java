@@ -34,7 +34,7 @@ public class CaseOfParser implements GeneratedParserUtilBase.Parser {
         boolean result;
         PsiBuilder.Marker marker = enter_section_(builder);
         result = this.header.parse(builder, level + 1);
-        result = result && IndentationTokenTypeRemapper.use(new IndentationTokenTypeRemapper.Callback<Boolean>() {
+        result = result && IndentationTokenTypeRemapper.use(builder, new IndentationTokenTypeRemapper.Callback<Boolean>() {
             @Override
             public Boolean call(IndentationTokenTypeRemapper reMapper, Boolean result) {
                 CaseOfParser.this.indentation = IndentationHelper.getIndentationOfPreviousToken(builder);
@@ -3,6 +3,7 @@ package org.elmlang.intellijplugin.manualParsing;
 import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.tree.IElementType;
+import org.elmlang.intellijplugin.parser.ElmTopLevelExpressionElementType;
 import org.elmlang.intellijplugin.psi.ElmTypes;
 import org.elmlang.intellijplugin.psi.impl.*;
 
@@ -31,6 +32,9 @@ public class ElmManualPsiElementFactory {
         if (type == ElmTypes.EFFECT) {
             return new ElmEffectImpl(node);
         }
+        if (type == ElmTopLevelExpressionElementType.INSTANCE) {
+            return new ElmExpressionImpl(node);
+        }
         return null;
     }
 }
\ No newline at end of file
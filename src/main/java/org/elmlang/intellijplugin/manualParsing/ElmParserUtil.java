@@ -18,6 +18,11 @@ public class ElmParserUtil extends GeneratedParserUtilBase {
                 .parse(builder, level);
     }
 
+    public static boolean parseTopLevelExpression(PsiBuilder builder, int level) {
+        return new TopLevelExpressionParser()
+                .parse(builder, level);
+    }
+
     public static boolean parseUpperCasePath(PsiBuilder builder, int level, Parser upperCaseId) {
         return new PathParser(
                 ElmTypes.UPPER_CASE_PATH,
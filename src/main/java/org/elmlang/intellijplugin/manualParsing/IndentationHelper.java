@@ -2,34 +2,43 @@ package org.elmlang.intellijplugin.manualParsing;
 
 
 import com.intellij.lang.PsiBuilder;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.intellij.openapi.util.Key;
 
 public class IndentationHelper {
-    private static final Pattern indentationPattern = Pattern.compile(".*[\r\n]([^\r\n]+)$", Pattern.DOTALL);
+    /**
+     * Column of the first character of the parsed text, set when a fragment of a file is parsed alone.
+     */
+    public static final Key<Integer> START_COLUMN = Key.create("elm.start.column");
 
     public static int getIndentationOfPreviousToken(PsiBuilder builder) {
         // getTokenType has some side effects. Do not remove the call.
         builder.getTokenType();
         int end = builder.rawTokenTypeStart(0);
-        return getLastIndentation(builder.getOriginalText().subSequence(0, end));
-    }
-
-    private static int getLastIndentation(CharSequence text) {
-        Matcher m = indentationPattern.matcher(text);
-        if (m.matches()) {
-            return m.group(1).length();
+        int lineStart = findLineStart(builder.getOriginalText(), 0, end);
+        if (lineStart >= 0) {
+            return end - lineStart;
         }
-        return 0;
+        Integer startColumn = builder.getUserData(START_COLUMN);
+        return startColumn == null ? 0 : startColumn + end;
     }
 
     public static int getIndentation(CharSequence text, int start, int end) {
-        CharSequence previousChars = text.subSequence(start, end);
-        Matcher m = indentationPattern.matcher(previousChars);
-        if (m.matches()) {
-            return m.group(1).length();
+        int lineStart = findLineStart(text, start, end);
+        return lineStart >= 0 ? end - lineStart : 0;
+    }
+
+    /**
+     * Scans backwards from `end`, so only the last line of the text is visited.
+     *
+     * @return offset following the last line break between `start` and `end`, or -1 if there is none
+     */
+    private static int findLineStart(CharSequence text, int start, int end) {
+        for (int i = end - 1; i >= start; i--) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return i + 1;
+            }
         }
-        return 0;
+        return -1;
     }
 }
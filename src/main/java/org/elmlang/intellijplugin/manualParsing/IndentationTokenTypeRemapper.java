@@ -1,46 +1,56 @@
 package org.elmlang.intellijplugin.manualParsing;
 
 import com.intellij.lang.ITokenTypeRemapper;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.TokenType;
 import com.intellij.psi.tree.IElementType;
 
-import java.util.*;
+import java.util.Arrays;
 
 import org.elmlang.intellijplugin.psi.ElmTypes;
 
+/**
+ * Turns whitespace ending with one of the pushed indentations into SEPARATION_BY_INDENTATION.
+ * One instance is kept per builder, so parsing threads do not share any state.
+ */
 public class IndentationTokenTypeRemapper implements ITokenTypeRemapper {
-    private static final Map<Long, IndentationTokenTypeRemapper> instances =
-            Collections.synchronizedMap(new HashMap<Long, IndentationTokenTypeRemapper>());
+    private static final Key<IndentationTokenTypeRemapper> KEY = Key.create("elm.indentation.remapper");
+    private static final int[] EMPTY = new int[0];
 
-    private Stack<Integer> indentations;
+    // Pushes never overwrite the first `size` elements, and a reset replaces the array,
+    // so restoring both fields in `use` brings back the previous indentations.
+    private int[] indentations = EMPTY;
+    private int size = 0;
 
     private IndentationTokenTypeRemapper() {
-        this.reset();
     }
 
-    public static <T> T use(Callback<T> callback, T input) {
-        IndentationTokenTypeRemapper instance = getInstance();
-        Stack<Integer> indentationsBackup = instance.indentations;
-        instance.indentations = (Stack<Integer>)instance.indentations.clone();
+    public static <T> T use(PsiBuilder builder, Callback<T> callback, T input) {
+        IndentationTokenTypeRemapper instance = getInstance(builder);
+        int[] indentationsBackup = instance.indentations;
+        int sizeBackup = instance.size;
         input = callback.call(instance, input);
         instance.indentations = indentationsBackup;
+        instance.size = sizeBackup;
         return input;
     }
 
     public void pushIndentation(int indentation) {
         if (indentation > 0) {
-            this.indentations.push(indentation);
+            if (this.size == this.indentations.length) {
+                this.indentations = Arrays.copyOf(this.indentations, Math.max(4, this.size * 2));
+            }
+            this.indentations[this.size++] = indentation;
         }
     }
 
     @Override
     public IElementType filter(IElementType type, int start, int end, CharSequence text) {
-        if (!this.indentations.empty() && TokenType.WHITE_SPACE.equals(type)) {
+        if (this.size > 0 && TokenType.WHITE_SPACE.equals(type)) {
             int i = IndentationHelper.getIndentation(text, start, end);
-            if (i > 0) {
-                if (this.indentations.search(i) > 0) {
-                    return ElmTypes.SEPARATION_BY_INDENTATION;
-                }
+            if (i > 0 && this.contains(i)) {
+                return ElmTypes.SEPARATION_BY_INDENTATION;
             }
         } else if (ElmTypes.FRESH_LINE.equals(type) || end == text.length()) {
             this.reset();
@@ -49,17 +59,28 @@ public class IndentationTokenTypeRemapper implements ITokenTypeRemapper {
     }
 
     public void reset() {
-        if (this.indentations == null || !this.indentations.empty()) {
-            this.indentations = new Stack<Integer>();
+        if (this.size > 0) {
+            this.indentations = EMPTY;
+            this.size = 0;
+        }
+    }
+
+    private boolean contains(int indentation) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.indentations[i] == indentation) {
+                return true;
+            }
         }
+        return false;
     }
 
-    private static IndentationTokenTypeRemapper getInstance() {
-        long key = Thread.currentThread().getId();
-        if (!instances.containsKey(key)) {
-            instances.put(key, new IndentationTokenTypeRemapper());
+    private static IndentationTokenTypeRemapper getInstance(PsiBuilder builder) {
+        IndentationTokenTypeRemapper instance = builder.getUserData(KEY);
+        if (instance == null) {
+            instance = new IndentationTokenTypeRemapper();
+            builder.putUserData(KEY, instance);
         }
-        return instances.get(key);
+        return instance;
     }
 
     // T is a hack for lack of non-final closures in Java
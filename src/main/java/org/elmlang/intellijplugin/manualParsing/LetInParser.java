@@ -29,7 +29,7 @@ public class LetInParser implements GeneratedParserUtilBase.Parser {
         boolean result;
         PsiBuilder.Marker marker = enter_section_(builder);
         result = consumeToken(builder, LET);
-        result = result && IndentationTokenTypeRemapper.use(new IndentationTokenTypeRemapper.Callback<Boolean>() {
+        result = result && IndentationTokenTypeRemapper.use(builder, new IndentationTokenTypeRemapper.Callback<Boolean>() {
             @Override
             public Boolean call(IndentationTokenTypeRemapper reMapper, Boolean result) {
                 builder.setTokenTypeRemapper(reMapper);
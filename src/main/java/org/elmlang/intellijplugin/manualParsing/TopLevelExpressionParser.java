@@ -0,0 +1,26 @@
+package org.elmlang.intellijplugin.manualParsing;
+
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.parser.GeneratedParserUtilBase;
+import org.elmlang.intellijplugin.parser.ElmTopLevelExpressionElementType;
+
+import static com.intellij.lang.parser.GeneratedParserUtilBase.recursion_guard_;
+import static org.elmlang.intellijplugin.psi.ElmTypes.FRESH_LINE;
+
+/**
+ * Collapses the body of a top-level value declaration into a single lazy element.
+ * The body ends with the next line starting at column 0, so it can be found without parsing it.
+ */
+public class TopLevelExpressionParser implements GeneratedParserUtilBase.Parser {
+    @Override
+    public boolean parse(PsiBuilder builder, int level) {
+        if (!recursion_guard_(builder, level, "top_level_expression")) return false;
+        if (builder.eof() || builder.getTokenType() == FRESH_LINE) return false;
+        PsiBuilder.Marker marker = builder.mark();
+        while (!builder.eof() && builder.getTokenType() != FRESH_LINE) {
+            builder.advanceLexer();
+        }
+        marker.collapse(ElmTopLevelExpressionElementType.INSTANCE);
+        return true;
+    }
+}
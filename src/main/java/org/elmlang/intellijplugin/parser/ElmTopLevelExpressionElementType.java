@@ -0,0 +1,103 @@
+package org.elmlang.intellijplugin.parser;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.impl.source.DummyHolder;
+import com.intellij.psi.impl.source.tree.FileElement;
+import com.intellij.psi.impl.source.tree.TreeUtil;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableElementType;
+import org.elmlang.intellijplugin.ElmLanguage;
+import org.elmlang.intellijplugin.ElmLexerAdapter;
+import org.elmlang.intellijplugin.ElmParserDefinition;
+import org.elmlang.intellijplugin.manualParsing.IndentationHelper;
+import org.elmlang.intellijplugin.psi.ElmTypes;
+import org.jetbrains.annotations.NotNull;
+
+import static com.intellij.lang.parser.GeneratedParserUtilBase.*;
+
+/**
+ * Body of a top-level value declaration. It is parsed on demand and reparsed on its own
+ * as long as an edit does not move its boundaries, i.e. does not add a line starting at column 0.
+ */
+public class ElmTopLevelExpressionElementType extends IReparseableElementType {
+    public static final ElmTopLevelExpressionElementType INSTANCE = new ElmTopLevelExpressionElementType();
+
+    private ElmTopLevelExpressionElementType() {
+        super("TOP_LEVEL_EXPRESSION", ElmLanguage.INSTANCE);
+    }
+
+    @Override
+    protected ASTNode doParseContents(@NotNull ASTNode chameleon, @NotNull PsiElement psi) {
+        Project project = psi.getProject();
+        PsiBuilder builder = PsiBuilderFactory.getInstance()
+                .createBuilder(project, chameleon, new ElmLexerAdapter(), this.getLanguage(), chameleon.getChars());
+        builder = adapt_builder_(this, builder, new ElmParser());
+        builder.putUserData(IndentationHelper.START_COLUMN, getStartColumn(chameleon));
+
+        PsiBuilder.Marker marker = enter_section_(builder, 0, _COLLAPSE_, null);
+        boolean result = ElmParser.expression_contents(builder, 1);
+        while (result && builder.getTokenType() == ElmTypes.SEPARATION_BY_INDENTATION) {
+            builder.advanceLexer();
+        }
+        exit_section_(builder, 0, marker, this, result, true, TRUE_CONDITION);
+        return builder.getTreeBuilt().getFirstChildNode();
+    }
+
+    @Override
+    public boolean isParsable(CharSequence buffer, Language fileLanguage, Project project) {
+        Lexer lexer = new ElmLexerAdapter();
+        lexer.start(buffer);
+        IElementType first = lexer.getTokenType();
+        if (first == null || isWhiteSpaceOrComment(first)) {
+            return false;
+        }
+        IElementType last = first;
+        while (lexer.getTokenType() != null) {
+            last = lexer.getTokenType();
+            if (last == ElmTypes.FRESH_LINE || last == TokenType.BAD_CHARACTER) {
+                return false;
+            }
+            lexer.advance();
+        }
+        return lexer.getState() == 0 && !isWhiteSpaceOrComment(last);
+    }
+
+    private static boolean isWhiteSpaceOrComment(IElementType type) {
+        return ElmParserDefinition.WHITE_SPACES.contains(type) || ElmParserDefinition.COMMENTS.contains(type);
+    }
+
+    /**
+     * Case and let expressions compare columns of their branches, so the column at which
+     * the body starts in the file is needed when the body text is parsed alone.
+     */
+    private static int getStartColumn(@NotNull ASTNode chameleon) {
+        ASTNode anchor = chameleon;
+        ASTNode parent = chameleon.getTreeParent();
+        if (parent instanceof FileElement && parent.getPsi() instanceof DummyHolder) {
+            // reparse: the new body is parsed next to the old one, which is still in the file
+            PsiElement context = ((DummyHolder) parent.getPsi()).getContext();
+            if (context != null) {
+                anchor = context.getNode();
+            }
+        }
+        int column = 0;
+        for (ASTNode leaf = TreeUtil.prevLeaf(anchor); leaf != null; leaf = TreeUtil.prevLeaf(leaf)) {
+            CharSequence chars = leaf.getChars();
+            for (int i = chars.length() - 1; i >= 0; i--) {
+                char c = chars.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    return column;
+                }
+                column++;
+            }
+        }
+        return column;
+    }
+}
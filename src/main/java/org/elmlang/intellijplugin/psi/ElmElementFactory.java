@@ -56,6 +56,13 @@ public class ElmElementFactory {
                 .orElse(null);
     }
 
+    /**
+     * @return a file holding only the given import clauses, to move them into another file at once
+     */
+    public static ElmFile createImportSection(Project project, String importClauses) {
+        return createFile(project, importClauses);
+    }
+
     @Nullable
     public static PsiElement createFreshLine(Project project) {
         final ElmFile file = createFile(project, "\n");
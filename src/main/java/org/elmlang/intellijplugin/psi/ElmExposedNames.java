@@ -0,0 +1,117 @@
+package org.elmlang.intellijplugin.psi;
+
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.elmlang.intellijplugin.utils.TypeFilter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Names listed by the `exposing` part of a module declaration or an import clause.
+ * The descriptor copies the given names and is immutable, so the one built for an element is shared until the file is modified.
+ */
+public class ElmExposedNames implements TypeFilter {
+    public static final ElmExposedNames ALL = new ElmExposedNames(true, Collections.emptySet(), Collections.emptySet(), Collections.emptyMap());
+    public static final ElmExposedNames NONE = new ElmExposedNames(false, Collections.emptySet(), Collections.emptySet(), Collections.emptyMap());
+
+    private final boolean exposingAll;
+    private final Set<String> values;
+    private final Set<String> types;
+    private final Map<String, Set<String>> typeMembers;
+
+    public ElmExposedNames(boolean exposingAll,
+                           @NotNull Set<String> values,
+                           @NotNull Set<String> types,
+                           @NotNull Map<String, Set<String>> typeMembers) {
+        this.exposingAll = exposingAll;
+        this.values = Collections.unmodifiableSet(new HashSet<>(values));
+        this.types = Collections.unmodifiableSet(new HashSet<>(types));
+        Map<String, Set<String>> members = new HashMap<>();
+        typeMembers.forEach((typeName, names) -> members.put(typeName, Collections.unmodifiableSet(new HashSet<>(names))));
+        this.typeMembers = Collections.unmodifiableMap(members);
+    }
+
+    @NotNull
+    public static ElmExposedNames forElement(@NotNull ElmExposingBase element) {
+        return CachedValuesManager.getCachedValue(element, () ->
+                CachedValueProvider.Result.create(create(element), element)
+        );
+    }
+
+    @NotNull
+    private static ElmExposedNames create(@NotNull ElmExposingBase element) {
+        if (element.isExposingAll()) {
+            return ALL;
+        }
+        Set<String> values = new HashSet<>();
+        for (ElmLowerCaseId id : element.getLowerCaseIdList()) {
+            values.add(id.getText());
+        }
+        Set<String> types = new HashSet<>();
+        Map<String, Set<String>> typeMembers = new HashMap<>();
+        for (ElmExposedUnion union : element.getExposedUnionList()) {
+            String typeName = union.getUpperCaseId().getText();
+            types.add(typeName);
+            ElmExposedUnionConstructors constructors = union.getExposedUnionConstructors();
+            if (constructors == null) {
+                continue;
+            }
+            Set<String> members = typeMembers.computeIfAbsent(typeName, k -> new HashSet<>());
+            if (constructors.isExposingAll()) {
+                members.add(ALL_MEMBERS);
+            } else {
+                for (ElmUpperCaseId id : constructors.getUpperCaseIdList()) {
+                    members.add(id.getText());
+                }
+            }
+        }
+        return new ElmExposedNames(false, values, types, typeMembers);
+    }
+
+    public boolean isExposingAll() {
+        return this.exposingAll;
+    }
+
+    /**
+     * @return names of the values listed explicitly, empty when exposing everything
+     */
+    @NotNull
+    public Set<String> getValues() {
+        return this.values;
+    }
+
+    /**
+     * @return names of the types listed explicitly, empty when exposing everything
+     */
+    @NotNull
+    public Set<String> getTypes() {
+        return this.types;
+    }
+
+    /**
+     * @return union members listed explicitly by union type name, {@link TypeFilter#ALL_MEMBERS} stands for `(..)`
+     */
+    @NotNull
+    public Map<String, Set<String>> getTypeMembers() {
+        return this.typeMembers;
+    }
+
+    public boolean testValue(@NotNull String name) {
+        return this.exposingAll || this.values.contains(name);
+    }
+
+    @Override
+    public boolean testType(String name) {
+        return this.exposingAll || this.types.contains(name);
+    }
+
+    @Override
+    public boolean testTypeMember(String typeName, String memberName) {
+        if (this.exposingAll) {
+            return true;
+        }
+        Set<String> members = this.typeMembers.get(typeName);
+        return members != null && (members.contains(memberName) || members.contains(ALL_MEMBERS));
+    }
+}
@@ -4,10 +4,12 @@ import com.intellij.extapi.psi.PsiFileBase;
 import com.intellij.openapi.fileTypes.FileType;
 import com.intellij.psi.FileViewProvider;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.stubs.StubElement;
 import org.elmlang.intellijplugin.ElmFileType;
 import org.elmlang.intellijplugin.ElmLanguage;
 import org.elmlang.intellijplugin.psi.impl.ElmPsiImplUtil;
+import org.elmlang.intellijplugin.psi.stubs.ElmFileStub;
+import org.elmlang.intellijplugin.psi.stubs.ElmTypeAliasDeclarationStub;
 import org.elmlang.intellijplugin.utils.TypeFilter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -44,26 +46,15 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
     }
 
     public List<ElmImportClause> getImportClauses() {
-        return new LinkedList<>(PsiTreeUtil.findChildrenOfType(this, ElmImportClause.class));
+        return ElmImportTable.forFile(this).getImportClauses();
     }
 
     public Stream<ElmImportClause> getImportClausesByAlias(String alias) {
-        return this.getImportClauses().stream()
-                .filter(e -> {
-                    ElmAsClause asClause = e.getAsClause();
-                    return asClause != null
-                            && asClause.getUpperCaseId().getText().equals(alias);
-                });
+        return ElmImportTable.forFile(this).getByAlias(alias);
     }
 
     public Optional<ElmImportClause> getImportClauseByModuleName(String moduleName) {
-        return this.getImportClauses().stream()
-                .filter(e ->
-                        Optional.ofNullable(e.getModuleName())
-                                .map(m -> m.getText().equals(moduleName))
-                                .orElse(false)
-                )
-                .findFirst();
+        return ElmImportTable.forFile(this).getByModuleName(moduleName);
     }
 
     @NotNull
@@ -74,9 +65,7 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
 
     @NotNull
     public Stream<ElmLowerCaseId> getExposedValues() {
-        return this.getModuleDeclaration()
-                .map(this::getExposedValues)
-                .orElse(Stream.empty());
+        return ElmModuleExports.forFile(this).getValues();
     }
 
     @NotNull
@@ -86,8 +75,11 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
 
     @NotNull
     public Optional<ElmLowerCaseId> getExposedValueByName(String name) {
-        return this.getExposedValues().filter(e -> e.getText().equals(name))
-                .findFirst();
+        ElmFileStub stub = this.getElmStub();
+        if (stub != null && !(stub.isValueExposed(name) && stub.definesValue(name))) {
+            return Optional.empty();
+        }
+        return ElmModuleExports.forFile(this).getValue(name);
     }
 
     @NotNull
@@ -101,11 +93,26 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
                 .flatMap(e -> getRecordFields((ElmTypeAliasDeclaration)e));
     }
 
-    private Stream<ElmLowerCaseId> getRecordFields(ElmTypeAliasDeclaration element) {
+    /**
+     * @return names of the fields of the records declared by type aliases, read from the stubs when the AST is not loaded
+     */
+    @NotNull
+    public Stream<String> getRecordFieldNames() {
+        ElmFileStub stub = this.getElmStub();
+        if (stub != null) {
+            return stub.getChildrenStubs().stream()
+                    .filter(e -> e instanceof ElmTypeAliasDeclarationStub)
+                    .flatMap(e -> ((ElmTypeAliasDeclarationStub) e).getRecordFields().stream());
+        }
+        return this.getRecordFields()
+                .map(PsiElement::getText);
+    }
+
+    public static Stream<ElmLowerCaseId> getRecordFields(ElmTypeAliasDeclaration element) {
         return getRecordFields(element.getTypeDefinition());
     }
 
-    private Stream<ElmLowerCaseId> getRecordFields(ElmTypeDefinition element) {
+    private static Stream<ElmLowerCaseId> getRecordFields(ElmTypeDefinition element) {
         return element.getRecordTypeList().stream()
                 .flatMap(e -> e.getFieldTypeList().stream())
                 .flatMap(e -> Stream.concat(Stream.of(e.getLowerCaseId()), getRecordFields(e.getTypeDefinition())));
@@ -113,7 +120,11 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
 
     @NotNull
     public Stream<ElmUpperCaseId> getExposedTypes(TypeFilter inputTypeFilter) {
-        return this.getTypes(TypeFilter.and(inputTypeFilter, this.getExposedTypeFilter()));
+        ElmFileStub stub = this.getElmStub();
+        if (stub != null) {
+            return this.getTypes(TypeFilter.and(inputTypeFilter, stub.getExposedTypeFilter()));
+        }
+        return ElmModuleExports.forFile(this).getTypes(inputTypeFilter);
     }
 
     @NotNull
@@ -123,22 +134,35 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
 
     @NotNull
     public Optional<ElmUpperCaseId> getExposedType(String name) {
-        return getExposedTypes(TypeFilter.byText(name))
-                .findFirst();
+        if (this.getElmStub() != null) {
+            return getExposedTypes(TypeFilter.byText(name))
+                    .findFirst();
+        }
+        return ElmModuleExports.forFile(this).getType(name);
     }
 
     @NotNull
     private Stream<ElmUpperCaseId> getTypes(TypeFilter typeFilter) {
+        ElmFileStub stub = this.getElmStub();
+        if (stub != null) {
+            return stub.getTypeStubs(typeFilter)
+                    .map(ElmFile::getTypeId);
+        }
         return Stream.concat(
                 this.getTypeAliases(typeFilter),
                 this.getUnionTypesAndMembers(typeFilter)
         );
     }
 
-    private TypeFilter getExposedTypeFilter() {
-        return this.getModuleDeclaration()
-                .map(ElmExposingBase::getExposedTypeFilter)
-                .orElse(TypeFilter.always(false));
+    @NotNull
+    private static ElmUpperCaseId getTypeId(StubElement typeStub) {
+        PsiElement psi = typeStub.getPsi();
+        if (psi instanceof ElmTypeAliasDeclaration) {
+            return ((ElmTypeAliasDeclaration) psi).getUpperCaseId();
+        } else if (psi instanceof ElmTypeDeclaration) {
+            return ((ElmTypeDeclaration) psi).getUpperCaseId();
+        }
+        return ((ElmUnionMember) psi).getUpperCaseId();
     }
 
     @NotNull
@@ -170,8 +194,21 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
                 .filter(e -> typeFilter.testType(e.getText()));
     }
 
+    /**
+     * @return the stub of the file if it is available, i.e. the AST of the file is not loaded
+     */
+    @Nullable
+    public ElmFileStub getElmStub() {
+        StubElement stub = this.getStub();
+        return stub instanceof ElmFileStub ? (ElmFileStub) stub : null;
+    }
+
     @Nullable
     private String getModuleName(String defaultValue) {
+        ElmFileStub stub = this.getElmStub();
+        if (stub != null) {
+            return Optional.ofNullable(stub.getModuleName()).orElse(defaultValue);
+        }
         return this.getModuleDeclaration()
                 .map(ElmModuleDeclaration::getModuleName)
                 .map(Optional::ofNullable)
@@ -179,11 +216,6 @@ public class ElmFile extends PsiFileBase implements ElmWithValueDeclarations {
                 .orElse(defaultValue);
     }
 
-    @NotNull
-    private Stream<ElmLowerCaseId> getExposedValues(@NotNull ElmModuleDeclaration module) {
-        return this.getAllDefinedValues(module.getLowerCaseFilter());
-    }
-
     @NotNull
     private Stream<ElmLowerCaseId> getAllDefinedValues(Predicate<ElmLowerCaseId> predicate) {
         Stream<ElmLowerCaseId> portsDefinitions = Arrays.stream(this.getChildren())
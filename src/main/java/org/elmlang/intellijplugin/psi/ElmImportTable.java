@@ -0,0 +1,113 @@
+package org.elmlang.intellijplugin.psi;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Import clauses of a file, computed once per modification of the file.
+ */
+public class ElmImportTable {
+    private final List<ElmImportClause> importClauses = new ArrayList<>();
+    private final Map<String, ElmImportClause> byModuleName = new HashMap<>();
+    private final Map<String, List<ElmImportClause>> byAlias = new HashMap<>();
+    private final Map<String, List<String>> modulesByExposedName = new HashMap<>();
+    private final List<String> modulesExposingAll = new ArrayList<>();
+
+    private ElmImportTable(@NotNull ElmFile file) {
+        for (PsiElement child = file.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof ElmImportClause) {
+                this.add((ElmImportClause) child);
+            } else if (isDeclaration(child)) {
+                // imports are only allowed in the header of a module
+                break;
+            }
+        }
+    }
+
+    @NotNull
+    public static ElmImportTable forFile(@NotNull ElmFile file) {
+        return CachedValuesManager.getCachedValue(file, () ->
+                CachedValueProvider.Result.create(new ElmImportTable(file), file)
+        );
+    }
+
+    @NotNull
+    public List<ElmImportClause> getImportClauses() {
+        return Collections.unmodifiableList(this.importClauses);
+    }
+
+    @NotNull
+    public Optional<ElmImportClause> getByModuleName(@NotNull String moduleName) {
+        return Optional.ofNullable(this.byModuleName.get(moduleName));
+    }
+
+    @NotNull
+    public Stream<ElmImportClause> getByAlias(@NotNull String alias) {
+        return this.byAlias.getOrDefault(alias, Collections.emptyList()).stream();
+    }
+
+    /**
+     * @return names of the modules explicitly exposing the value, type or union constructor
+     */
+    @NotNull
+    public Stream<String> getModulesExposing(@NotNull String name) {
+        return this.modulesByExposedName.getOrDefault(name, Collections.emptyList()).stream();
+    }
+
+    /**
+     * @return names of the modules imported with `exposing (..)`
+     */
+    @NotNull
+    public List<String> getModulesExposingAll() {
+        return Collections.unmodifiableList(this.modulesExposingAll);
+    }
+
+    private void add(@NotNull ElmImportClause clause) {
+        this.importClauses.add(clause);
+
+        ElmUpperCasePath modulePath = clause.getModuleName();
+        if (modulePath == null) {
+            return;
+        }
+        String moduleName = modulePath.getText();
+        this.byModuleName.putIfAbsent(moduleName, clause);
+
+        ElmAsClause asClause = clause.getAsClause();
+        if (asClause != null) {
+            this.byAlias.computeIfAbsent(asClause.getUpperCaseId().getText(), k -> new ArrayList<>())
+                    .add(clause);
+        }
+
+        ElmExposingClause exposingClause = clause.getExposingClause();
+        if (exposingClause != null && exposingClause.isExposingAll()) {
+            this.modulesExposingAll.add(moduleName);
+        } else if (exposingClause != null) {
+            exposingClause.getLowerCaseIdList()
+                    .forEach(id -> this.addExposedName(id.getText(), moduleName));
+            for (ElmExposedUnion union : exposingClause.getExposedUnionList()) {
+                this.addExposedName(union.getUpperCaseId().getText(), moduleName);
+                Optional.ofNullable(union.getExposedUnionConstructors())
+                        .ifPresent(c -> c.getUpperCaseIdList()
+                                .forEach(id -> this.addExposedName(id.getText(), moduleName)));
+            }
+        }
+    }
+
+    private void addExposedName(@NotNull String name, @NotNull String moduleName) {
+        this.modulesByExposedName.computeIfAbsent(name, k -> new ArrayList<>())
+                .add(moduleName);
+    }
+
+    private static boolean isDeclaration(PsiElement element) {
+        return element instanceof ElmValueDeclaration
+                || element instanceof ElmTypeAnnotation
+                || element instanceof ElmTypeDeclaration
+                || element instanceof ElmTypeAliasDeclaration
+                || element instanceof ElmOperatorConfig;
+    }
+}
@@ -0,0 +1,90 @@
+package org.elmlang.intellijplugin.psi;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.elmlang.intellijplugin.utils.TypeFilter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Symbols exposed by a module, computed once per modification of the file.
+ */
+public class ElmModuleExports {
+    private final Map<String, ElmLowerCaseId> values = new LinkedHashMap<>();
+    private final Map<String, ElmUpperCaseId> types = new LinkedHashMap<>();
+    private final Map<String, ElmUpperCaseId> constructors = new LinkedHashMap<>();
+    private final Map<String, String> constructorsUnionTypes = new HashMap<>();
+
+    private ElmModuleExports(@NotNull ElmFile file) {
+        file.getModuleDeclaration().ifPresent(module -> {
+            file.getAllDefinedValues()
+                    .filter(module.getLowerCaseFilter())
+                    .forEach(id -> this.values.putIfAbsent(id.getText(), id));
+            this.gatherTypes(file, module.getExposedTypeFilter());
+        });
+    }
+
+    @NotNull
+    public static ElmModuleExports forFile(@NotNull ElmFile file) {
+        return CachedValuesManager.getCachedValue(file, () ->
+                CachedValueProvider.Result.create(new ElmModuleExports(file), file)
+        );
+    }
+
+    @NotNull
+    public Stream<ElmLowerCaseId> getValues() {
+        return this.values.values().stream();
+    }
+
+    @NotNull
+    public Optional<ElmLowerCaseId> getValue(@NotNull String name) {
+        return Optional.ofNullable(this.values.get(name));
+    }
+
+    /**
+     * @return the exposed type alias, union type or union constructor
+     */
+    @NotNull
+    public Optional<ElmUpperCaseId> getType(@NotNull String name) {
+        ElmUpperCaseId type = this.types.get(name);
+        return type != null ? Optional.of(type) : Optional.ofNullable(this.constructors.get(name));
+    }
+
+    @NotNull
+    public Stream<ElmUpperCaseId> getTypes(@NotNull TypeFilter typeFilter) {
+        return Stream.concat(
+                this.types.values().stream()
+                        .filter(e -> typeFilter.testType(e.getText())),
+                this.constructors.values().stream()
+                        .filter(e -> typeFilter.testTypeMember(this.constructorsUnionTypes.get(e.getText()), e.getText()))
+        );
+    }
+
+    private void gatherTypes(@NotNull ElmFile file, @NotNull TypeFilter exposedTypeFilter) {
+        for (PsiElement child : file.getChildren()) {
+            if (child instanceof ElmTypeAliasDeclaration) {
+                this.addType(((ElmTypeAliasDeclaration) child).getUpperCaseId(), exposedTypeFilter);
+            } else if (child instanceof ElmTypeDeclaration) {
+                ElmTypeDeclaration typeDeclaration = (ElmTypeDeclaration) child;
+                String typeName = typeDeclaration.getUpperCaseId().getText();
+                this.addType(typeDeclaration.getUpperCaseId(), exposedTypeFilter);
+                for (ElmUnionMember member : typeDeclaration.getUnionMemberList()) {
+                    String memberName = member.getUpperCaseId().getText();
+                    if (exposedTypeFilter.testTypeMember(typeName, memberName) && !this.constructors.containsKey(memberName)) {
+                        this.constructors.put(memberName, member.getUpperCaseId());
+                        this.constructorsUnionTypes.put(memberName, typeName);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addType(@NotNull ElmUpperCaseId id, @NotNull TypeFilter exposedTypeFilter) {
+        if (exposedTypeFilter.testType(id.getText())) {
+            this.types.putIfAbsent(id.getText(), id);
+        }
+    }
+}
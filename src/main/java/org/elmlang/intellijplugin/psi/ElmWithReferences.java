@@ -0,0 +1,14 @@
+package org.elmlang.intellijplugin.psi;
+
+import com.intellij.psi.PsiElement;
+import org.elmlang.intellijplugin.psi.references.ElmReference;
+
+import java.util.stream.Stream;
+
+public interface ElmWithReferences extends PsiElement {
+    /**
+     * @return references of the element and its children, each one still bound to the element which created it;
+     * {@link PsiElement#getReferences()} moves them to this element
+     */
+    Stream<ElmReference> getReferencesStream();
+}
@@ -78,7 +78,7 @@ public class ElmMixedCasePathImpl extends ElmPsiElement implements ElmMixedCaseP
     private Stream<ElmReference> getReferenceAndContainingModuleReference(ElmReference reference, Stack<ElmUpperCaseId> upperCaseIds) {
         return Stream.concat(
                 this.getContainingModuleReference(upperCaseIds, reference),
-                Stream.of(reference.referenceInAncestor(this))
+                Stream.of(reference)
         );
     }
 
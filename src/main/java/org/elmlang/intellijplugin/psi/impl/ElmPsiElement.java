@@ -2,9 +2,13 @@ package org.elmlang.intellijplugin.psi.impl;
 
 import com.intellij.extapi.psi.ASTWrapperPsiElement;
 import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import org.elmlang.intellijplugin.psi.ElmVisitor;
+import org.elmlang.intellijplugin.psi.ElmWithReferences;
 import org.elmlang.intellijplugin.psi.references.ElmReference;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -12,7 +16,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
-public abstract class ElmPsiElement extends ASTWrapperPsiElement {
+public abstract class ElmPsiElement extends ASTWrapperPsiElement implements ElmWithReferences {
     public ElmPsiElement(@NotNull ASTNode node) {
         super(node);
     }
@@ -22,7 +26,7 @@ public abstract class ElmPsiElement extends ASTWrapperPsiElement {
             pure = true
     )
     public PsiReference[] getReferences() {
-        return this.getReferencesStream().toArray(PsiReference[]::new);
+        return getCachedReferences(this);
     }
 
     public void accept(@NotNull PsiElementVisitor visitor) {
@@ -33,14 +37,27 @@ public abstract class ElmPsiElement extends ASTWrapperPsiElement {
     }
 
     public Stream<ElmReference> getReferencesStream() {
-        return Arrays.stream(this.getChildren())
-                .filter(c -> c instanceof ElmPsiElement)
-                .map(c -> getReferencesFromChild((ElmPsiElement) c))
-                .reduce(Stream.empty(), Stream::concat);
+        return getReferencesFromChildren(this);
     }
 
-    private Stream<ElmReference> getReferencesFromChild(ElmPsiElement element) {
-        return element.getReferencesStream()
-                .map(r -> r.referenceInAncestor(this));
+    static Stream<ElmReference> getReferencesFromChildren(PsiElement element) {
+        return Arrays.stream(element.getChildren())
+                .filter(c -> c instanceof ElmWithReferences)
+                .flatMap(c -> ((ElmWithReferences) c).getReferencesStream());
+    }
+
+    /**
+     * The references are moved to the element with a single offset calculation,
+     * and the array is kept until the next modification of the file.
+     */
+    static ElmReference[] getCachedReferences(ElmWithReferences element) {
+        return CachedValuesManager.getCachedValue(element, () ->
+                CachedValueProvider.Result.create(
+                        element.getReferencesStream()
+                                .map(r -> r.referenceInAncestor(element))
+                                .toArray(ElmReference[]::new),
+                        element
+                )
+        );
     }
 }
@@ -65,20 +65,16 @@ public class ElmPsiImplUtil {
         }
     }
 
-    public static Stream<ElmReference> getReferencesStream(ElmExpression element) {
-        return getReferencesInAncestor(
-                element,
-                element.getListOfOperandsList().stream().flatMap(ElmPsiImplUtil::getReferencesStream)
-        );
+    public static ElmExpression getExpression(ElmValueDeclaration element) {
+        return PsiTreeUtil.getChildOfType(element, ElmExpression.class);
     }
 
-    private static Stream<ElmReference> getReferencesInAncestor(PsiElement ancestor, Stream<ElmReference> references) {
-        return references
-                .map(r -> r.referenceInAncestor(ancestor));
+    public static Stream<ElmReference> getReferencesStream(ElmExpression element) {
+        return element.getListOfOperandsList().stream().flatMap(ElmPsiImplUtil::getReferencesStream);
     }
 
     public static Stream<ElmReference> getReferencesStream(ElmListOfOperands element) {
-        Stream<ElmReference> references = Arrays.stream(element.getChildren())
+        return Arrays.stream(element.getChildren())
                 .flatMap(child -> {
                     if (child instanceof ElmWithExpression) {
                         return ElmPsiImplUtil.getReferencesStream(((ElmWithExpression) child));
@@ -90,35 +86,25 @@ public class ElmPsiImplUtil {
                         return Stream.empty();
                     }
                 });
-        return getReferencesInAncestor(element, references);
     }
 
     public static Stream<ElmReference> getReferencesStream(ElmWithExpressionList element) {
-        return getReferencesInAncestor(
-                element,
-                element.getExpressionList().stream()
-                        .flatMap(ElmPsiImplUtil::getReferencesStream)
-        );
+        return element.getExpressionList().stream()
+                .flatMap(ElmPsiImplUtil::getReferencesStream);
     }
 
     public static Stream<ElmReference> getReferencesStream(ElmWithExpression element) {
-        return getReferencesStream(element.getExpression())
-                .map(r -> r.referenceInAncestor(element));
+        return getReferencesStream(element.getExpression());
     }
 
     public static Stream<ElmReference> getReferencesStream(ElmRecord record) {
 
         Stream<ElmReference> recordBase = Optional.ofNullable(record.getLowerCaseId())
-                .map(id -> new ElmValueReference(id).referenceInAncestor(record))
-                .map(Stream::of)
+                .map(id -> Stream.of((ElmReference) new ElmValueReference(id)))
                 .orElse(Stream.empty());
 
         Stream<ElmReference> fields = record.getFieldList().stream()
-                .map(f ->
-                        ElmPsiImplUtil.getReferencesStream(f)
-                                .map(r -> r.referenceInAncestor(record))
-                )
-                .reduce(Stream.empty(), Stream::concat);
+                .flatMap(ElmPsiImplUtil::getReferencesStream);
 
         return Stream.concat(recordBase, fields);
     }
@@ -210,7 +196,7 @@ public class ElmPsiImplUtil {
         return Stream.concat(
                 getTypeReferences(element, typeReferenceConstructor),
                 element.getLowerCaseIdList().stream()
-                        .map(id -> valueReferenceConstructor.apply(id).referenceInAncestor(element))
+                        .map(valueReferenceConstructor)
         );
     }
 
@@ -218,12 +204,8 @@ public class ElmPsiImplUtil {
                                                           Function<ElmUpperCaseId, ElmReference> referenceConstructor) {
         return element.getExposedUnionList().stream()
                 .flatMap(e -> Stream.concat(
-                        Stream.of(
-                                referenceConstructor.apply(e.getUpperCaseId())
-                                        .referenceInAncestor(element)
-                        ),
+                        Stream.of(referenceConstructor.apply(e.getUpperCaseId())),
                         getExposedUnionMembersReferences(e.getExposedUnionConstructors(), referenceConstructor)
-                                .map(r -> r.referenceInAncestor(element))
                 ));
     }
 
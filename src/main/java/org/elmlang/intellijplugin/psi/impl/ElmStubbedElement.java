@@ -0,0 +1,53 @@
+package org.elmlang.intellijplugin.psi.impl;
+
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubElement;
+import org.elmlang.intellijplugin.psi.ElmVisitor;
+import org.elmlang.intellijplugin.psi.ElmWithReferences;
+import org.elmlang.intellijplugin.psi.references.ElmReference;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.Stream;
+
+/**
+ * Base class of the top-level declarations which are stored in the stub tree,
+ * so they can be found through stub indices without building the AST of the file.
+ */
+public abstract class ElmStubbedElement<T extends StubElement> extends StubBasedPsiElementBase<T> implements ElmWithReferences {
+    public ElmStubbedElement(@NotNull T stub, @NotNull IStubElementType nodeType) {
+        super(stub, nodeType);
+    }
+
+    public ElmStubbedElement(@NotNull ASTNode node) {
+        super(node);
+    }
+
+    @NotNull
+    @Contract(
+            pure = true
+    )
+    public PsiReference[] getReferences() {
+        return ElmPsiElement.getCachedReferences(this);
+    }
+
+    public void accept(@NotNull PsiElementVisitor visitor) {
+        if (visitor instanceof ElmVisitor) {
+            ((ElmVisitor)visitor).visitPsiElement(this);
+        }
+        else super.accept(visitor);
+    }
+
+    public Stream<ElmReference> getReferencesStream() {
+        return ElmPsiElement.getReferencesFromChildren(this);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "(" + this.getElementType() + ")";
+    }
+}
@@ -73,7 +73,7 @@ public class ElmUpperCasePathImpl extends ElmPsiElement implements ElmUpperCaseP
 
         return Stream.concat(
                 Stream.of(new ElmContainingModuleReference(this, new TextRange(0, moduleTextLength), children.size(), reference)),
-                Stream.of(reference.referenceInAncestor(this))
+                Stream.of(reference)
         );
     }
 }
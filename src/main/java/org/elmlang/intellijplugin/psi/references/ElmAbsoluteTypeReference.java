@@ -29,7 +29,7 @@ public class ElmAbsoluteTypeReference extends ElmReferenceBase<ElmUpperCaseId> {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return AbsoluteReferencesHelper.resolveAbsoluteReference(
                 this.moduleName,
                 f -> f.getExposedType(this.referencingElement.getText())
@@ -23,7 +23,7 @@ public class ElmAbsoluteValueReference extends ElmReferenceBase<ElmLowerCaseId>
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return AbsoluteReferencesHelper.resolveAbsoluteReference(
                 ((ElmMixedCasePath) this.referencingElement.getParent()).getUpperCaseIdList(),
                 f -> f.getExposedValueByName(this.referencingElement.getText())
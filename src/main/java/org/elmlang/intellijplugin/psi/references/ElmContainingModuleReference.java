@@ -46,7 +46,7 @@ public class ElmContainingModuleReference extends ElmReferenceBase<PsiElement> {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return Optional.ofNullable(valueOrTypeReference.resolve())
                 .map(e -> ((ElmFile)e.getContainingFile()))
                 .flatMap(ElmFile::getModuleDeclaration)
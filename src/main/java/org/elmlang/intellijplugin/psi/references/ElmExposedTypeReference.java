@@ -24,7 +24,7 @@ public class ElmExposedTypeReference extends ElmReferenceBase<ElmUpperCaseId> {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return ExposingClauseReferenceHelper.resolveExposed(this.referencingElement, this::resolve);
     }
 
@@ -25,7 +25,7 @@ public class ElmExposedValueReference extends ElmReferenceBase<ElmLowerCaseId> {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return ExposingClauseReferenceHelper.resolveExposed(this.referencingElement, this::resolve);
     }
 
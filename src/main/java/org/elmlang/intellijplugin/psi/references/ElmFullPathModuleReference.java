@@ -23,7 +23,7 @@ public class ElmFullPathModuleReference extends ElmReferenceBase<ElmUpperCasePat
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         String moduleName = this.referencingElement.getText();
         return this.resolveUsingModuleIndex(moduleName, ElmFile::getModuleDeclaration);
     }
@@ -23,7 +23,7 @@ public class ElmImportedTypeReference extends ElmExposedTypeReference {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return ExposingClauseReferenceHelper.resolveImported(this.referencingElement, this::resolve);
     }
 }
@@ -23,7 +23,7 @@ public class ElmImportedValueReference extends ElmExposedValueReference {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return ExposingClauseReferenceHelper.resolveImported(this.referencingElement, this::resolve);
     }
 }
@@ -4,6 +4,7 @@ package org.elmlang.intellijplugin.psi.references;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReferenceBase;
+import com.intellij.psi.impl.source.resolve.ResolveCache;
 import com.intellij.util.IncorrectOperationException;
 import org.elmlang.intellijplugin.psi.ElmFile;
 import org.elmlang.intellijplugin.psi.ElmNamedElement;
@@ -12,10 +13,14 @@ import org.elmlang.intellijplugin.utils.Function3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
 abstract class ElmReferenceBase<T extends PsiElement> extends PsiReferenceBase<PsiElement> implements ElmReference {
+    private static final ResolveCache.AbstractResolver<ElmReferenceBase<?>, PsiElement> RESOLVER =
+            (reference, incompleteCode) -> reference.resolveInner();
+
     final T referencingElement;
 
     ElmReferenceBase(T element) {
@@ -51,6 +56,39 @@ abstract class ElmReferenceBase<T extends PsiElement> extends PsiReferenceBase<P
 
     protected abstract Function3<PsiElement, T, TextRange, ElmReference> constructor();
 
+    /**
+     * The result is cached until the next PSI modification, references are equal
+     * when they point from the same element at the same range.
+     */
+    @Nullable
+    @Override
+    public final PsiElement resolve() {
+        return ResolveCache.getInstance(this.myElement.getProject())
+                .resolveWithCaching(this, RESOLVER, false, false);
+    }
+
+    @Nullable
+    protected abstract PsiElement resolveInner();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        ElmReferenceBase<?> that = (ElmReferenceBase<?>) o;
+        return this.myElement.equals(that.myElement)
+                && this.referencingElement.equals(that.referencingElement)
+                && this.getRangeInElement().equals(that.getRangeInElement());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getClass(), this.myElement, this.referencingElement, this.getRangeInElement());
+    }
+
     @NotNull
     @Override
     public Object[] getVariants() {
@@ -61,11 +99,6 @@ abstract class ElmReferenceBase<T extends PsiElement> extends PsiReferenceBase<P
         return element.getText().equals(this.referencingElement.getText());
     }
 
-    boolean theSameNameOrEmpty(Optional<T> optionalElem) {
-        return optionalElem.map(this::theSameName)
-                .orElse(true);
-    }
-
     @Nullable
     <U extends PsiElement> PsiElement resolveUsingModuleIndex(String moduleName, Function<ElmFile, Optional<U>> resolver) {
         return ModuleIndexHelper.resolveUsingModuleIndex(
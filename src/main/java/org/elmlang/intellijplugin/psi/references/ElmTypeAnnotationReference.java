@@ -26,7 +26,7 @@ public class ElmTypeAnnotationReference extends ElmReferenceBase<ElmLowerCaseId>
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         return ElmTreeUtil.findFollowingSibling(this.referencingElement.getParent(), e -> e instanceof ElmValueDeclarationBase)
             .map(e -> resolve((ElmValueDeclarationBase) e))
             .orElse(null);
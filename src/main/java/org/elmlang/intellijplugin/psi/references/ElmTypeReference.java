@@ -25,12 +25,11 @@ public class ElmTypeReference extends ElmReferenceBase<ElmUpperCaseId> {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
+    protected PsiElement resolveInner() {
         PsiFile file = this.myElement.getContainingFile();
-        return ElmScope.typesFor((ElmFile) file)
-                .filter(this::theSameNameOrEmpty)
+        return ElmScope.typesFor((ElmFile) file, this.referencingElement.getText())
+                .filter(this::theSameName)
                 .findFirst()
-                .map(o -> o.orElse(null))
                 .orElse(null);
     }
 }
@@ -7,8 +7,6 @@ import org.elmlang.intellijplugin.psi.scope.ElmScope;
 import org.elmlang.intellijplugin.utils.Function3;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
-
 public class ElmValueReference extends ElmReferenceBase<ElmLowerCaseId> {
 
     public ElmValueReference(ElmLowerCaseId element) {
@@ -26,11 +24,8 @@ public class ElmValueReference extends ElmReferenceBase<ElmLowerCaseId> {
 
     @Nullable
     @Override
-    public PsiElement resolve() {
-        return ElmScope.scopeFor(this.referencingElement)
-                .filter(this::theSameNameOrEmpty)
-                .findFirst()
-                .map(o -> o.orElse(null))
+    protected PsiElement resolveInner() {
+        return ElmScope.resolveValue(this.referencingElement)
                 .orElse(null);
     }
 }
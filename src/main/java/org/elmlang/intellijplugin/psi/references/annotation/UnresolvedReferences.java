@@ -0,0 +1,97 @@
+package org.elmlang.intellijplugin.psi.references.annotation;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.daemon.impl.HighlightInfoType;
+import com.intellij.codeInsight.daemon.impl.quickfix.QuickFixAction;
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.elmlang.intellijplugin.features.intention.imports.ElmImportAllQuickFix;
+import org.elmlang.intellijplugin.features.intention.imports.ElmImportQuickFix;
+import org.elmlang.intellijplugin.psi.*;
+import org.elmlang.intellijplugin.psi.references.ElmReference;
+import org.elmlang.intellijplugin.psi.references.ElmReferenceTarget;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class UnresolvedReferences {
+    private UnresolvedReferences() {
+    }
+
+    /**
+     * @return unresolved references of the element itself, not including the ones of its children
+     */
+    public static Stream<ElmReference> getUnresolvedReferences(@NotNull PsiElement psiElement) {
+        Stream<ElmReference> references = shouldCheckReferences(psiElement)
+                ? getCachedReferences(psiElement)
+                : getRecordReference(psiElement);
+        return references.filter(r -> r.resolve() == null);
+    }
+
+    /**
+     * @return whether the name of the reference can be brought in scope by an import
+     */
+    public static boolean canBeFixedByImport(@NotNull ElmReference reference) {
+        return PsiTreeUtil.getParentOfType(reference.getElement(), ElmImportClause.class) == null;
+    }
+
+    /**
+     * @return the error reported on an unresolved reference, with the import fixes if they apply
+     */
+    @Nullable
+    public static HighlightInfo createHighlightInfo(@NotNull ElmReference reference) {
+        ElmReferenceTarget target = reference.getTarget();
+        String additionalMessage = target == ElmReferenceTarget.MODULE
+                ? " Make sure the package is listed in elm.json or elm-package.json and has been installed."
+                : "";
+        String message = String.format("Cannot find %s \"%s\".%s",
+                target,
+                reference.getCanonicalText(),
+                additionalMessage
+        );
+        HighlightInfo info = HighlightInfo.newHighlightInfo(HighlightInfoType.ERROR)
+                .range(reference.getReferencingElement())
+                .descriptionAndTooltip(message)
+                .create();
+
+        if (info != null && canBeFixedByImport(reference)) {
+            String nameToFix = reference.getReferencingElement().getText();
+            QuickFixAction.registerQuickFixAction(info, new ElmImportQuickFix(nameToFix));
+            QuickFixAction.registerQuickFixAction(info, new ElmImportAllQuickFix());
+        }
+        return info;
+    }
+
+    private static boolean shouldCheckReferences(PsiElement psiElement) {
+        return (isPathElement(psiElement) && !(psiElement.getParent() instanceof ElmExposingBase))
+                || psiElement instanceof ElmExposingBase;
+    }
+
+    private static boolean isPathElement(PsiElement psiElement) {
+        return psiElement instanceof ElmLowerCasePath || psiElement instanceof ElmMixedCasePath || psiElement instanceof ElmUpperCasePath;
+    }
+
+    private static Stream<ElmReference> getRecordReference(PsiElement psiElement) {
+        if (!(psiElement instanceof ElmRecord)) {
+            return Stream.empty();
+        }
+        ElmRecord record = (ElmRecord) psiElement;
+        return Optional.ofNullable(record.getLowerCaseId())
+                .map(x -> getCachedReferences(record))
+                .flatMap(Stream::findFirst)
+                .map(Stream::of)
+                .orElse(Stream.empty());
+    }
+
+    /**
+     * The cached array is used, so that the references are the same keys of the resolve cache
+     * as the ones resolved by navigation and other inspections.
+     */
+    private static Stream<ElmReference> getCachedReferences(PsiElement element) {
+        return Arrays.stream(element.getReferences())
+                .map(ElmReference.class::cast);
+    }
+}
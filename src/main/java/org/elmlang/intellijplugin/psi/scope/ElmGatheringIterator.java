@@ -0,0 +1,42 @@
+package org.elmlang.intellijplugin.psi.scope;
+
+import com.intellij.openapi.progress.ProgressManager;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Stack;
+
+/**
+ * Iterates over elements gathered lazily, one step at a time.
+ * Checks for cancellation before each step, so a resolve or a completion
+ * going through many modules stops soon after the user types.
+ */
+abstract class ElmGatheringIterator<T> implements Iterator<T> {
+    final Stack<T> gathered = new Stack<>();
+
+    @Override
+    public boolean hasNext() {
+        while (this.gathered.isEmpty()) {
+            ProgressManager.checkCanceled();
+            if (!this.gatherNext()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.gathered.pop();
+    }
+
+    /**
+     * Pushes the elements of the next step to `gathered`.
+     *
+     * @return false if there are no more steps
+     */
+    abstract boolean gatherNext();
+}
@@ -1,19 +1,17 @@
 package org.elmlang.intellijplugin.psi.scope;
 
+import com.intellij.openapi.progress.ProgressManager;
 import org.elmlang.intellijplugin.ElmModuleIndex;
 import org.elmlang.intellijplugin.psi.ElmFile;
 import org.elmlang.intellijplugin.psi.ElmImportClause;
-import org.elmlang.intellijplugin.psi.ElmLowerCaseId;
 
-import java.util.Optional;
 import java.util.Stack;
 
 import static org.elmlang.intellijplugin.psi.scope.ElmTypesProvider.TypesProvidingPhase.*;
 
-public class ElmRecordFieldsProvider {
+public class ElmRecordFieldsProvider extends ElmGatheringIterator<String> {
     private final ElmFile file;
 
-    private final Stack<ElmLowerCaseId> fields = new Stack<>();
     private final Stack<ElmImportClause> importClauses = new Stack<>();
     private final Stack<String> implicitImports;
     private ElmTypesProvider.TypesProvidingPhase phase = CURRENT_FILE;
@@ -23,31 +21,28 @@ public class ElmRecordFieldsProvider {
         this.implicitImports = ElmCoreLibrary.getImplicitImportsCopy();
     }
 
-    Optional<ElmLowerCaseId> nextField() {
-        if (!this.fields.isEmpty()) {
-            return Optional.of(this.fields.pop());
-        }
-
+    @Override
+    boolean gatherNext() {
         switch (this.phase) {
             case CURRENT_FILE:
                 gatherFieldsFromCurrentFile();
-                return this.nextField();
+                return true;
             case IMPORTED_FILES:
                 gatherTypesFromImport();
-                return this.nextField();
+                return true;
             case IMPLICIT_IMPORTS:
                 gatherTypesFromImplicitImport();
-                return this.nextField();
+                return true;
             case FINISHED:
-                return Optional.empty();
+                return false;
             default:
                 throw new RuntimeException("Unhandled phase " + this.phase);
         }
     }
 
     private void gatherFieldsFromCurrentFile() {
-        this.file.getRecordFields()
-                .forEach(this.fields::push);
+        this.file.getRecordFieldNames()
+                .forEach(this.gathered::push);
         this.file.getImportClauses()
                 .forEach(this.importClauses::push);
         this.updatePhase();
@@ -69,7 +64,10 @@ public class ElmRecordFieldsProvider {
 
     private void gatherTypesFromFile(String moduleName) {
         ElmModuleIndex.getFilesByModuleName(moduleName, this.file.getProject())
-                .forEach(f -> f.getRecordFields().forEach(this.fields::push));
+                .forEach(f -> {
+                    ProgressManager.checkCanceled();
+                    f.getRecordFieldNames().forEach(this.gathered::push);
+                });
     }
 
     private void gatherTypesFromImplicitImport() {
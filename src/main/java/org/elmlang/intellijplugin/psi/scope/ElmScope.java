@@ -1,32 +1,79 @@
 package org.elmlang.intellijplugin.psi.scope;
 
 import com.intellij.psi.PsiElement;
+import org.elmlang.intellijplugin.ElmModuleIndex;
 import org.elmlang.intellijplugin.psi.*;
+import org.elmlang.intellijplugin.utils.TypeFilter;
 
 import java.util.*;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ElmScope {
-    public static Stream<Optional<ElmLowerCaseId>> scopeFor(ElmLowerCaseId elem) {
+    public static Stream<ElmLowerCaseId> scopeFor(ElmLowerCaseId elem) {
         return provideValuesFor(elem.getParent());
     }
 
-    public static Stream<Optional<ElmLowerCaseId>> scopeFor(ElmFile file) {
+    /**
+     * Walks up the scopes of the element and looks the name up in their tables,
+     * falling back to the values imported into the file.
+     */
+    public static Optional<ElmLowerCaseId> resolveValue(ElmLowerCaseId elem) {
+        String name = elem.getText();
+        for (PsiElement scope = elem.getParent(); scope != null; scope = scope.getParent()) {
+            if (scope instanceof ElmPattern) {
+                return Optional.empty();
+            }
+            if (ElmScopeTable.isScope(scope)) {
+                Optional<ElmLowerCaseId> result = ElmScopeTable.forScope(scope).get(name);
+                if (result.isPresent()) {
+                    return result;
+                }
+                if (scope instanceof ElmFile) {
+                    return resolveImportedValue((ElmFile) scope, name);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Stream<ElmLowerCaseId> scopeFor(ElmFile file) {
         return provideValuesFor(file);
     }
 
-    public static Stream<Optional<ElmLowerCaseId>> recordFieldsFor(ElmFile file) {
-        ElmRecordFieldsProvider p = new ElmRecordFieldsProvider(file);
-        return Stream.generate(p::nextField);
+    /**
+     * @return names of the record fields declared in the file and in the modules it imports
+     */
+    public static Stream<String> recordFieldsFor(ElmFile file) {
+        return stream(new ElmRecordFieldsProvider(file));
+    }
+
+    public static Stream<ElmUpperCaseId> typesFor(ElmFile file) {
+        return stream(new ElmTypesProvider(file));
+    }
+
+    public static Stream<ElmUpperCaseId> typesFor(ElmFile file, String name) {
+        return stream(new ElmTypesProvider(file, TypeFilter.byText(name)));
+    }
+
+    private static Optional<ElmLowerCaseId> resolveImportedValue(ElmFile file, String name) {
+        ElmImportTable imports = ElmImportTable.forFile(file);
+        return Stream.concat(
+                Stream.concat(imports.getModulesExposing(name), imports.getModulesExposingAll().stream()),
+                Stream.of(ElmCoreLibrary.BASICS_MODULE)
+        )
+                .flatMap(moduleName -> ElmModuleIndex.getFilesByModuleName(moduleName, file.getProject()).stream())
+                .map(f -> f.getExposedValueByName(name))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
     }
 
-    public static Stream<Optional<ElmUpperCaseId>> typesFor(ElmFile file) {
-        ElmTypesProvider p = new ElmTypesProvider(file);
-        return Stream.generate(p::nextType);
+    private static Stream<ElmLowerCaseId> provideValuesFor(PsiElement element) {
+        return stream(new ElmValuesProvider(element));
     }
 
-    private static Stream<Optional<ElmLowerCaseId>> provideValuesFor(PsiElement element) {
-        ElmValuesProvider p = new ElmValuesProvider(element);
-        return Stream.generate(p::nextId);
+    private static <T> Stream<T> stream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
     }
 }
@@ -0,0 +1,114 @@
+package org.elmlang.intellijplugin.psi.scope;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.elmlang.intellijplugin.psi.*;
+import org.elmlang.intellijplugin.psi.impl.ElmPsiImplUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Values declared directly by a single scope, i.e. a `let ... in`, a case branch, an anonymous function,
+ * a value declaration or a file. Values coming from imports are not part of the table.
+ */
+class ElmScopeTable {
+    private final Map<String, ElmLowerCaseId> declarations = new LinkedHashMap<>();
+
+    private ElmScopeTable(@NotNull PsiElement scope) {
+        this.gatherPatterns(scope);
+
+        if (scope instanceof ElmValueDeclarationBase) {
+            ElmValueDeclarationBase declaration = (ElmValueDeclarationBase) scope;
+            Optional.ofNullable(declaration.getFunctionDeclarationLeft())
+                    .ifPresent(this::gatherDeclarations);
+            Optional.ofNullable(declaration.getOperatorDeclarationLeft())
+                    .ifPresent(this::gatherDeclarations);
+        } else if (scope instanceof ElmLetIn) {
+            this.gatherValueDeclarations((ElmWithValueDeclarations) scope);
+        } else if (scope instanceof ElmFile) {
+            this.gatherEffects((ElmFile) scope);
+            this.gatherValueDeclarations((ElmWithValueDeclarations) scope);
+        }
+    }
+
+    static boolean isScope(@NotNull PsiElement element) {
+        return element instanceof ElmLetIn
+                || element instanceof ElmCaseOfBranch
+                || element instanceof ElmAnonymousFunction
+                || element instanceof ElmValueDeclarationBase
+                || element instanceof ElmFile;
+    }
+
+    @NotNull
+    static ElmScopeTable forScope(@NotNull PsiElement scope) {
+        return CachedValuesManager.getCachedValue(scope, () ->
+                CachedValueProvider.Result.create(new ElmScopeTable(scope), scope.getContainingFile())
+        );
+    }
+
+    @NotNull
+    Optional<ElmLowerCaseId> get(@NotNull String name) {
+        return Optional.ofNullable(this.declarations.get(name));
+    }
+
+    @NotNull
+    Collection<ElmLowerCaseId> getDeclarations() {
+        return this.declarations.values();
+    }
+
+    private void gatherPatterns(@NotNull PsiElement scope) {
+        Arrays.stream(scope.getChildren())
+                .filter(c -> c instanceof ElmPattern)
+                .flatMap(p -> ElmPsiImplUtil.getDeclarationsFromPattern((ElmPattern) p))
+                .forEach(this::add);
+    }
+
+    private void gatherDeclarations(@NotNull ElmFunctionDeclarationLeft elem) {
+        this.add(elem.getLowerCaseId());
+        this.gatherDeclarations((ElmWithPatternList) elem);
+    }
+
+    private void gatherDeclarations(@NotNull ElmWithPatternList elem) {
+        elem.getPatternList().stream()
+                .flatMap(ElmPsiImplUtil::getDeclarationsFromPattern)
+                .forEach(this::add);
+    }
+
+    private void gatherEffects(@NotNull ElmFile file) {
+        file.getModuleDeclaration()
+                .flatMap(e -> Optional.ofNullable(e.getRecord()))
+                .ifPresent(e -> e.getFieldList().stream()
+                        .map(ElmField::getLowerCaseId)
+                        .forEach(this::add));
+    }
+
+    private void gatherValueDeclarations(@NotNull ElmWithValueDeclarations element) {
+        for (PsiElement child : element.getChildren()) {
+            if (child instanceof ElmValueDeclarationBase) {
+                PsiElement left = child.getFirstChild();
+                if (left instanceof ElmPattern) {
+                    ElmPsiImplUtil.getDeclarationsFromPattern((ElmPattern) left)
+                            .forEach(this::add);
+                } else if (left instanceof ElmFunctionDeclarationLeft) {
+                    this.add(((ElmFunctionDeclarationLeft) left).getLowerCaseId());
+                }
+            } else if (child instanceof ElmTypeAnnotation) {
+                ElmTypeAnnotation typeAnnotation = (ElmTypeAnnotation) child;
+                if (typeAnnotation.isPortAnnotation()) {
+                    Optional.ofNullable(typeAnnotation.getLowerCaseId())
+                            .ifPresent(this::add);
+                }
+            }
+        }
+    }
+
+    private void add(@NotNull ElmLowerCaseId id) {
+        this.declarations.putIfAbsent(id.getText(), id);
+    }
+}
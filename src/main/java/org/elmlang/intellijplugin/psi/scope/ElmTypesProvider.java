@@ -1,5 +1,6 @@
 package org.elmlang.intellijplugin.psi.scope;
 
+import com.intellij.openapi.progress.ProgressManager;
 import org.elmlang.intellijplugin.ElmModuleIndex;
 import org.elmlang.intellijplugin.psi.*;
 import org.elmlang.intellijplugin.utils.TypeFilter;
@@ -10,36 +11,42 @@ import java.util.Stack;
 import static org.elmlang.intellijplugin.psi.scope.ElmTypesProvider.TypesProvidingPhase.*;
 
 
-class ElmTypesProvider {
+class ElmTypesProvider extends ElmGatheringIterator<ElmUpperCaseId> {
     private final ElmFile file;
+    private final TypeFilter nameFilter;
 
-    private final Stack<ElmUpperCaseId> types = new Stack<>();
     private final Stack<ElmImportClause> importClauses = new Stack<>();
     private final Stack<String> implicitImports;
     private TypesProvidingPhase phase = CURRENT_FILE;
 
     ElmTypesProvider(ElmFile file) {
+        this(file, TypeFilter.always(true));
+    }
+
+    /**
+     * @param nameFilter restricts the types gathered from other files, so their stubs
+     *                   can be used without loading the AST of files not declaring a matching type
+     */
+    ElmTypesProvider(ElmFile file, TypeFilter nameFilter) {
         this.file = file;
+        this.nameFilter = nameFilter;
         this.implicitImports = ElmCoreLibrary.getImplicitImportsCopy();
     }
 
-    Optional<ElmUpperCaseId> nextType() {
-        if (!this.types.isEmpty()) {
-            return Optional.of(types.pop());
-        }
-
+    @Override
+    boolean gatherNext() {
         switch (this.phase) {
             case CURRENT_FILE:
                 gatherTypesFromCurrentFile();
-                return this.nextType();
+                return true;
             case IMPORTED_FILES:
                 gatherTypesFromImport();
-                return this.nextType();
+                return true;
             case IMPLICIT_IMPORTS:
                 gatherTypesFromImplicitImport();
-                return this.nextType();
+                return true;
             case FINISHED:
-                return Optional.empty();
+                return false;
             default:
                 throw new RuntimeException("Unhandled phase " + this.phase);
         }
@@ -47,7 +54,7 @@ class ElmTypesProvider {
 
     private void gatherTypesFromCurrentFile() {
         this.file.getInternalTypes()
-                .forEach(this.types::push);
+                .forEach(this.gathered::push);
         this.file.getImportClauses()
                 .forEach(this.importClauses::push);
         this.updatePhase();
@@ -61,10 +68,7 @@ class ElmTypesProvider {
     }
 
     private void gatherTypesFromExposingClause(String moduleName, ElmExposingClause exposingClause) {
-        TypeFilter filter = exposingClause.isExposingAll()
-                ? TypeFilter.always(true)
-                : exposingClause.getExposedTypeFilter();
-        this.gatherTypesFromFile(moduleName, filter);
+        this.gatherTypesFromFile(moduleName, exposingClause.getExposedTypeFilter());
     }
 
     private void gatherTypesFromImplicitImport() {
@@ -79,8 +83,9 @@ class ElmTypesProvider {
     }
 
     private void gatherTypesFromFile(ElmFile file, TypeFilter filter) {
-        file.getExposedTypes(filter)
-                .forEach(this.types::push);
+        ProgressManager.checkCanceled();
+        file.getExposedTypes(TypeFilter.and(filter, this.nameFilter))
+                .forEach(this.gathered::push);
     }
 
     private void updatePhase() {
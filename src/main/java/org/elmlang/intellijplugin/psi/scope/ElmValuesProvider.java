@@ -1,66 +1,40 @@
 package org.elmlang.intellijplugin.psi.scope;
 
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.PsiElement;
 import org.elmlang.intellijplugin.ElmModuleIndex;
 import org.elmlang.intellijplugin.psi.*;
-import org.elmlang.intellijplugin.psi.impl.ElmPsiImplUtil;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
-import java.util.Stack;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import static org.elmlang.intellijplugin.psi.ElmTreeUtil.isElementOfType;
-
-class ElmValuesProvider
+class ElmValuesProvider extends ElmGatheringIterator<ElmLowerCaseId>
 {
     private PsiElement elem;
-    private Stack<ElmPattern> patterns = new Stack<>();
-    private Stack<ElmLowerCaseId> ids = new Stack<>();
 
     ElmValuesProvider(PsiElement elem) {
         this.elem = elem;
     }
 
-    Optional<ElmLowerCaseId> nextId() {
-        if (!this.ids.isEmpty()) {
-            return Optional.of(ids.pop());
-        }
-
-        if (!this.patterns.isEmpty()) {
-            ElmPsiImplUtil.getDeclarationsFromPattern(this.patterns.pop())
-                    .forEach(ids::add);
-            return nextId();
-        }
-
+    @Override
+    boolean gatherNext() {
         if (this.elem == null || this.elem instanceof ElmPattern) {
-            return Optional.empty();
+            return false;
         }
 
         this.elem = this.gatherIdsFromCurrentElement();
-
-        return nextId();
+        return true;
     }
 
     private PsiElement gatherIdsFromCurrentElement() {
-        Arrays.stream(this.elem.getChildren())
-                .filter(c -> c instanceof ElmPattern)
-                .map(p -> (ElmPattern)p)
-                .forEach(this.patterns::add);
+        if (ElmScopeTable.isScope(this.elem)) {
+            ElmScopeTable.forScope(this.elem).getDeclarations()
+                    .forEach(this.gathered::push);
+        }
 
-        if (this.elem instanceof ElmValueDeclarationBase) {
-            ElmValueDeclarationBase declaration = (ElmValueDeclarationBase) this.elem;
-            Optional.ofNullable(declaration.getFunctionDeclarationLeft())
-                    .ifPresent(this::gatherDeclarations);
-            Optional.ofNullable(declaration.getOperatorDeclarationLeft())
-                    .ifPresent(this::gatherDeclarations);
-        } else if (this.elem instanceof ElmLetIn) {
-            this.gatherValueDeclarations();
-        } else if (this.elem instanceof ElmFile) {
-            this.gatherEffects();
-            this.gatherValueDeclarations();
+        if (this.elem instanceof ElmFile) {
             this.gatherDeclarationsFromOtherFiles();
             return null;
         }
@@ -68,53 +42,6 @@ class ElmValuesProvider
         return this.elem.getParent();
     }
 
-    private void gatherDeclarations(ElmFunctionDeclarationLeft elem) {
-        this.ids.push(elem.getLowerCaseId());
-        this.patterns.addAll(elem.getPatternList());
-    }
-
-    private void gatherValueDeclarations() {
-        this.gatherValueDeclarations((ElmWithValueDeclarations) this.elem);
-    }
-
-    private void gatherEffects() {
-        ((ElmFile) this.elem).getModuleDeclaration()
-                .flatMap(e -> Optional.ofNullable(e.getRecord()))
-                .ifPresent(e -> gatherEffects(e.getFieldList()));
-    }
-
-    private void gatherEffects(List<ElmField> effects) {
-        effects.stream()
-                .map(ElmField::getLowerCaseId)
-                .forEach(this.ids::push);
-    }
-
-    private void gatherValueDeclarations(ElmWithValueDeclarations element) {
-        Arrays.stream(element.getChildren())
-                .filter(c -> c instanceof ElmValueDeclarationBase)
-                .forEach(d -> {
-                    PsiElement child = d.getFirstChild();
-                    if (child instanceof ElmPattern) {
-                        this.patterns.add((ElmPattern) child);
-                    } else if (child instanceof ElmFunctionDeclarationLeft) {
-                        this.ids.push(((ElmFunctionDeclarationLeft) child).getLowerCaseId());
-                    }
-                });
-        Arrays.stream(element.getChildren())
-                .filter(e -> e instanceof ElmTypeAnnotation)
-                .map(e -> (ElmTypeAnnotation) e)
-                .forEach(typeAnnotation -> {
-                    if (typeAnnotation.isPortAnnotation()) {
-                        Optional.ofNullable(typeAnnotation.getLowerCaseId())
-                                .ifPresent(id -> this.ids.push(id));
-                    }
-                });
-    }
-
-    private static boolean startsWithPort(PsiElement element) {
-        return isElementOfType(element, ElmTypes.PORT);
-    }
-
     private void gatherDeclarationsFromOtherFiles() {
         ((ElmFile) this.elem).getImportClauses().stream()
                 .filter(e -> e.getExposingClause() != null)
@@ -123,11 +50,17 @@ class ElmValuesProvider
     }
 
     private void gatherDeclarationsFromOtherFile(@NotNull ElmImportClause elem) {
-        Predicate<ElmLowerCaseId> filter = Optional.ofNullable(elem.getExposingClause())
-                .map(ElmExposingBase::getLowerCaseFilter)
-                .orElse(x -> false);
-        Optional.ofNullable(elem.getModuleName())
-                .ifPresent(name -> gatherDeclarationsFromOtherFile(name.getText(), filter));
+        ElmExposingClause exposingClause = elem.getExposingClause();
+        ElmUpperCasePath moduleName = elem.getModuleName();
+        if (exposingClause == null || moduleName == null) {
+            return;
+        }
+        ElmExposedNames exposedNames = exposingClause.getExposedNames();
+        if (exposedNames.isExposingAll()) {
+            gatherDeclarationsFromOtherFile(moduleName.getText(), x -> true);
+        } else {
+            gatherDeclarationsFromOtherFile(moduleName.getText(), exposedNames.getValues());
+        }
     }
 
     private void gatherDeclarationsFromOtherFile(@NotNull String moduleName, Predicate<ElmLowerCaseId> filter) {
@@ -136,14 +69,22 @@ class ElmValuesProvider
     }
 
     private void gatherDeclarationsFromOtherFile(ElmFile file, Predicate<ElmLowerCaseId> filter) {
+        ProgressManager.checkCanceled();
         file.getExposedValues()
                 .filter(filter)
-                .forEach(this.ids::add);
+                .forEach(this.gathered::add);
     }
 
-    private void gatherDeclarations(ElmWithPatternList elem) {
-        this.patterns.addAll(elem.getPatternList());
+    /**
+     * Looks up only the explicitly imported names, so the stubs of the imported module
+     * can answer for names it does not define without loading its AST.
+     */
+    private void gatherDeclarationsFromOtherFile(@NotNull String moduleName, Set<String> importedValues) {
+        List<ElmFile> files = ElmModuleIndex.getFilesByModuleName(moduleName, this.elem.getProject());
+        importedValues
+                .forEach(name -> files.forEach(f -> {
+                    ProgressManager.checkCanceled();
+                    f.getExposedValueByName(name).ifPresent(this.gathered::add);
+                }));
     }
-
-
 }
@@ -0,0 +1,97 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.PsiFileStubImpl;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.tree.IStubFileElementType;
+import org.elmlang.intellijplugin.psi.ElmExposedNames;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.elmlang.intellijplugin.utils.TypeFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.stream.Stream;
+
+public class ElmFileStub extends PsiFileStubImpl<ElmFile> {
+    private final String moduleName;
+    private final ElmExposedNames exposedNames;
+
+    ElmFileStub(@Nullable ElmFile file,
+                @Nullable String moduleName,
+                @NotNull ElmExposedNames exposedNames) {
+        super(file);
+        this.moduleName = moduleName;
+        this.exposedNames = exposedNames;
+    }
+
+    @NotNull
+    static ElmFileStub create(@NotNull ElmFile file) {
+        ElmExposedNames exposedNames = file.getModuleDeclaration()
+                .map(ElmExposedNames::forElement)
+                .orElse(ElmExposedNames.NONE);
+        return new ElmFileStub(file, file.getModuleName(), exposedNames);
+    }
+
+    @Override
+    public IStubFileElementType getType() {
+        return ElmFileStubElementType.INSTANCE;
+    }
+
+    @Nullable
+    public String getModuleName() {
+        return this.moduleName;
+    }
+
+    @NotNull
+    ElmExposedNames getExposedNames() {
+        return this.exposedNames;
+    }
+
+    public boolean isValueExposed(@NotNull String name) {
+        return this.exposedNames.testValue(name);
+    }
+
+    @NotNull
+    public TypeFilter getExposedTypeFilter() {
+        return this.exposedNames;
+    }
+
+    @NotNull
+    public Stream<String> getDefinedValueNames() {
+        return this.getChildrenStubs().stream()
+                .flatMap(ElmFileStub::getDefinedValueNames);
+    }
+
+    public boolean definesValue(@NotNull String name) {
+        return this.getDefinedValueNames().anyMatch(name::equals);
+    }
+
+    /**
+     * @return stubs of type aliases, union types and union members accepted by the filter
+     */
+    @NotNull
+    public Stream<StubElement> getTypeStubs(@NotNull TypeFilter typeFilter) {
+        Stream<StubElement> aliases = this.getChildrenStubs().stream()
+                .filter(s -> s instanceof ElmTypeAliasDeclarationStub)
+                .filter(s -> typeFilter.testType(((ElmTypeAliasDeclarationStub) s).getName()));
+        Stream<StubElement> unionTypes = this.getChildrenStubs().stream()
+                .filter(s -> s instanceof ElmTypeDeclarationStub)
+                .map(s -> (ElmTypeDeclarationStub) s)
+                .flatMap(s -> Stream.concat(
+                        Stream.of(s).filter(t -> typeFilter.testType(t.getName())),
+                        s.getUnionMembers().filter(m -> typeFilter.testTypeMember(m.getUnionTypeName(), m.getName()))
+                ));
+        return Stream.concat(aliases, unionTypes);
+    }
+
+    private static Stream<String> getDefinedValueNames(@NotNull Object stub) {
+        if (stub instanceof ElmValueDeclarationStub) {
+            return ((ElmValueDeclarationStub) stub).getDefinedNames();
+        } else if (stub instanceof ElmTypeAnnotationStub) {
+            ElmTypeAnnotationStub annotation = (ElmTypeAnnotationStub) stub;
+            return annotation.isPort() && annotation.getName() != null
+                    ? Stream.of(annotation.getName())
+                    : Stream.empty();
+        }
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,95 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.StubBuilder;
+import com.intellij.psi.stubs.DefaultStubBuilder;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IStubFileElementType;
+import com.intellij.util.io.StringRef;
+import org.elmlang.intellijplugin.ElmLanguage;
+import org.elmlang.intellijplugin.parser.ElmTopLevelExpressionElementType;
+import org.elmlang.intellijplugin.psi.ElmExposedNames;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class ElmFileStubElementType extends IStubFileElementType<ElmFileStub> {
+    public static final ElmFileStubElementType INSTANCE = new ElmFileStubElementType();
+
+    private static final int VERSION = 4;
+
+    private ElmFileStubElementType() {
+        super("ELM_FILE", ElmLanguage.INSTANCE);
+    }
+
+    @Override
+    public StubBuilder getBuilder() {
+        return new DefaultStubBuilder() {
+            @NotNull
+            @Override
+            protected StubElement createStubForFile(@NotNull PsiFile file) {
+                return file instanceof ElmFile
+                        ? ElmFileStub.create((ElmFile) file)
+                        : super.createStubForFile(file);
+            }
+
+            @Override
+            protected boolean skipChildProcessingWhenBuildingStubs(@NotNull ASTNode parent, @NotNull ASTNode node) {
+                // bodies of top-level values hold no stubs, so they need not be parsed to build the stub tree
+                return node.getElementType() == ElmTopLevelExpressionElementType.INSTANCE;
+            }
+        };
+    }
+
+    @Override
+    public int getStubVersion() {
+        return VERSION;
+    }
+
+    @NotNull
+    @Override
+    public String getExternalId() {
+        return "elm.FILE";
+    }
+
+    @Override
+    public void serialize(@NotNull ElmFileStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+        ElmExposedNames exposedNames = stub.getExposedNames();
+        dataStream.writeName(stub.getModuleName());
+        dataStream.writeBoolean(exposedNames.isExposingAll());
+        ElmStubElementType.writeNames(dataStream, exposedNames.getValues());
+        ElmStubElementType.writeNames(dataStream, exposedNames.getTypes());
+        dataStream.writeVarInt(exposedNames.getTypeMembers().size());
+        for (Map.Entry<String, Set<String>> members : exposedNames.getTypeMembers().entrySet()) {
+            dataStream.writeName(members.getKey());
+            ElmStubElementType.writeNames(dataStream, members.getValue());
+        }
+    }
+
+    @NotNull
+    @Override
+    public ElmFileStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+        String moduleName = StringRef.toString(dataStream.readName());
+        boolean exposingAll = dataStream.readBoolean();
+        Set<String> exposedValues = new HashSet<>(ElmStubElementType.readNames(dataStream));
+        Set<String> exposedTypes = new HashSet<>(ElmStubElementType.readNames(dataStream));
+        int typesWithMembers = dataStream.readVarInt();
+        Map<String, Set<String>> exposedTypeMembers = new HashMap<>(typesWithMembers);
+        for (int i = 0; i < typesWithMembers; i++) {
+            String typeName = StringRef.toString(dataStream.readName());
+            exposedTypeMembers.put(typeName, new HashSet<>(ElmStubElementType.readNames(dataStream)));
+        }
+        ElmExposedNames exposedNames = exposingAll
+                ? ElmExposedNames.ALL
+                : new ElmExposedNames(false, exposedValues, exposedTypes, exposedTypeMembers);
+        return new ElmFileStub(null, moduleName, exposedNames);
+    }
+}
@@ -0,0 +1,53 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.util.io.StringRef;
+import org.elmlang.intellijplugin.psi.ElmFunctionDeclarationLeft;
+import org.elmlang.intellijplugin.psi.ElmTypes;
+import org.elmlang.intellijplugin.psi.impl.ElmFunctionDeclarationLeftImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class ElmFunctionDeclarationLeftElementType extends ElmStubElementType<ElmFunctionDeclarationLeftStub, ElmFunctionDeclarationLeft> {
+    ElmFunctionDeclarationLeftElementType(@NotNull String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public boolean shouldCreateStub(ASTNode node) {
+        // Functions declared inside `let ... in` are not visible outside of the declaring expression.
+        ASTNode parent = node.getTreeParent();
+        return parent != null && parent.getElementType() == ElmTypes.VALUE_DECLARATION;
+    }
+
+    @Override
+    public ElmFunctionDeclarationLeft createPsi(@NotNull ElmFunctionDeclarationLeftStub stub) {
+        return new ElmFunctionDeclarationLeftImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ElmFunctionDeclarationLeftStub createStub(@NotNull ElmFunctionDeclarationLeft psi, StubElement parentStub) {
+        return new ElmFunctionDeclarationLeftStub(parentStub, this, psi.getLowerCaseId().getText());
+    }
+
+    @Override
+    public void serialize(@NotNull ElmFunctionDeclarationLeftStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+        dataStream.writeName(stub.getName());
+    }
+
+    @NotNull
+    @Override
+    public ElmFunctionDeclarationLeftStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+        return new ElmFunctionDeclarationLeftStub(parentStub, this, StringRef.toString(dataStream.readName()));
+    }
+
+    @Override
+    public void indexStub(@NotNull ElmFunctionDeclarationLeftStub stub, @NotNull IndexSink sink) {
+    }
+}
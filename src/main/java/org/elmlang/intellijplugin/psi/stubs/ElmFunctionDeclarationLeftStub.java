@@ -0,0 +1,21 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.elmlang.intellijplugin.psi.ElmFunctionDeclarationLeft;
+import org.jetbrains.annotations.NotNull;
+
+public class ElmFunctionDeclarationLeftStub extends StubBase<ElmFunctionDeclarationLeft> {
+    private final String name;
+
+    ElmFunctionDeclarationLeftStub(StubElement parent, IStubElementType elementType, @NotNull String name) {
+        super(parent, elementType);
+        this.name = name;
+    }
+
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+}
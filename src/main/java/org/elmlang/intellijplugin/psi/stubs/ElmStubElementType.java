@@ -0,0 +1,45 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.util.io.StringRef;
+import org.elmlang.intellijplugin.ElmLanguage;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public abstract class ElmStubElementType<S extends StubElement<?>, P extends PsiElement> extends IStubElementType<S, P> {
+    ElmStubElementType(@NotNull @NonNls String debugName) {
+        super(debugName, ElmLanguage.INSTANCE);
+    }
+
+    @NotNull
+    @Override
+    public String getExternalId() {
+        return "elm." + super.toString();
+    }
+
+    static void writeNames(@NotNull StubOutputStream dataStream, @NotNull Collection<String> names) throws IOException {
+        dataStream.writeVarInt(names.size());
+        for (String name : names) {
+            dataStream.writeName(name);
+        }
+    }
+
+    @NotNull
+    static List<String> readNames(@NotNull StubInputStream dataStream) throws IOException {
+        int size = dataStream.readVarInt();
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(StringRef.toString(dataStream.readName()));
+        }
+        return result;
+    }
+}
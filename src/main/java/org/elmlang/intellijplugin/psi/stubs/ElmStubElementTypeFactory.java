@@ -0,0 +1,28 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+
+public class ElmStubElementTypeFactory {
+    public static IElementType create(@NotNull String name) {
+        if (name.equals("VALUE_DECLARATION")) {
+            return new ElmValueDeclarationElementType(name);
+        }
+        if (name.equals("FUNCTION_DECLARATION_LEFT")) {
+            return new ElmFunctionDeclarationLeftElementType(name);
+        }
+        if (name.equals("TYPE_ANNOTATION")) {
+            return new ElmTypeAnnotationElementType(name);
+        }
+        if (name.equals("TYPE_DECLARATION")) {
+            return new ElmTypeDeclarationElementType(name);
+        }
+        if (name.equals("TYPE_ALIAS_DECLARATION")) {
+            return new ElmTypeAliasDeclarationElementType(name);
+        }
+        if (name.equals("UNION_MEMBER")) {
+            return new ElmUnionMemberElementType(name);
+        }
+        throw new IllegalArgumentException("Unknown stub element type: " + name);
+    }
+}
@@ -0,0 +1,54 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.util.io.StringRef;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.elmlang.intellijplugin.psi.ElmTypeAliasDeclaration;
+import org.elmlang.intellijplugin.psi.impl.ElmTypeAliasDeclarationImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ElmTypeAliasDeclarationElementType extends ElmStubElementType<ElmTypeAliasDeclarationStub, ElmTypeAliasDeclaration> {
+    ElmTypeAliasDeclarationElementType(@NotNull String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ElmTypeAliasDeclaration createPsi(@NotNull ElmTypeAliasDeclarationStub stub) {
+        return new ElmTypeAliasDeclarationImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ElmTypeAliasDeclarationStub createStub(@NotNull ElmTypeAliasDeclaration psi, StubElement parentStub) {
+        List<String> recordFields = ElmFile.getRecordFields(psi)
+                .map(PsiElement::getText)
+                .distinct()
+                .collect(Collectors.toList());
+        return new ElmTypeAliasDeclarationStub(parentStub, this, psi.getUpperCaseId().getText(), recordFields);
+    }
+
+    @Override
+    public void serialize(@NotNull ElmTypeAliasDeclarationStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+        dataStream.writeName(stub.getName());
+        writeNames(dataStream, stub.getRecordFields());
+    }
+
+    @NotNull
+    @Override
+    public ElmTypeAliasDeclarationStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+        String name = StringRef.toString(dataStream.readName());
+        return new ElmTypeAliasDeclarationStub(parentStub, this, name, readNames(dataStream));
+    }
+
+    @Override
+    public void indexStub(@NotNull ElmTypeAliasDeclarationStub stub, @NotNull IndexSink sink) {
+    }
+}
@@ -0,0 +1,33 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.elmlang.intellijplugin.psi.ElmTypeAliasDeclaration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public class ElmTypeAliasDeclarationStub extends StubBase<ElmTypeAliasDeclaration> {
+    private final String name;
+    private final List<String> recordFields;
+
+    ElmTypeAliasDeclarationStub(StubElement parent, IStubElementType elementType, @NotNull String name, @NotNull List<String> recordFields) {
+        super(parent, elementType);
+        this.name = name;
+        this.recordFields = recordFields;
+    }
+
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return names of the fields of the records in the aliased type, including the nested ones
+     */
+    @NotNull
+    public List<String> getRecordFields() {
+        return this.recordFields;
+    }
+}
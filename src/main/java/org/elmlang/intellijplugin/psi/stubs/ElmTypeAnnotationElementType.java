@@ -0,0 +1,52 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.util.io.StringRef;
+import org.elmlang.intellijplugin.psi.ElmTypeAnnotation;
+import org.elmlang.intellijplugin.psi.impl.ElmTypeAnnotationImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public class ElmTypeAnnotationElementType extends ElmStubElementType<ElmTypeAnnotationStub, ElmTypeAnnotation> {
+    ElmTypeAnnotationElementType(@NotNull String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ElmTypeAnnotation createPsi(@NotNull ElmTypeAnnotationStub stub) {
+        return new ElmTypeAnnotationImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ElmTypeAnnotationStub createStub(@NotNull ElmTypeAnnotation psi, StubElement parentStub) {
+        String name = Optional.ofNullable(psi.getLowerCaseId())
+                .map(PsiElement::getText)
+                .orElse(null);
+        return new ElmTypeAnnotationStub(parentStub, this, name, psi.isPortAnnotation());
+    }
+
+    @Override
+    public void serialize(@NotNull ElmTypeAnnotationStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+        dataStream.writeName(stub.getName());
+        dataStream.writeBoolean(stub.isPort());
+    }
+
+    @NotNull
+    @Override
+    public ElmTypeAnnotationStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+        String name = StringRef.toString(dataStream.readName());
+        boolean port = dataStream.readBoolean();
+        return new ElmTypeAnnotationStub(parentStub, this, name, port);
+    }
+
+    @Override
+    public void indexStub(@NotNull ElmTypeAnnotationStub stub, @NotNull IndexSink sink) {
+    }
+}
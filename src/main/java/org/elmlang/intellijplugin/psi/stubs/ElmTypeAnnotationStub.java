@@ -0,0 +1,30 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.elmlang.intellijplugin.psi.ElmTypeAnnotation;
+import org.jetbrains.annotations.Nullable;
+
+public class ElmTypeAnnotationStub extends StubBase<ElmTypeAnnotation> {
+    private final String name;
+    private final boolean port;
+
+    ElmTypeAnnotationStub(StubElement parent, IStubElementType elementType, @Nullable String name, boolean port) {
+        super(parent, elementType);
+        this.name = name;
+        this.port = port;
+    }
+
+    /**
+     * @return the annotated name or null if an operator is annotated
+     */
+    @Nullable
+    public String getName() {
+        return this.name;
+    }
+
+    public boolean isPort() {
+        return this.port;
+    }
+}
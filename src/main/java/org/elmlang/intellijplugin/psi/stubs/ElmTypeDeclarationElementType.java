@@ -0,0 +1,44 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.util.io.StringRef;
+import org.elmlang.intellijplugin.psi.ElmTypeDeclaration;
+import org.elmlang.intellijplugin.psi.impl.ElmTypeDeclarationImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class ElmTypeDeclarationElementType extends ElmStubElementType<ElmTypeDeclarationStub, ElmTypeDeclaration> {
+    ElmTypeDeclarationElementType(@NotNull String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ElmTypeDeclaration createPsi(@NotNull ElmTypeDeclarationStub stub) {
+        return new ElmTypeDeclarationImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ElmTypeDeclarationStub createStub(@NotNull ElmTypeDeclaration psi, StubElement parentStub) {
+        return new ElmTypeDeclarationStub(parentStub, this, psi.getUpperCaseId().getText());
+    }
+
+    @Override
+    public void serialize(@NotNull ElmTypeDeclarationStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+        dataStream.writeName(stub.getName());
+    }
+
+    @NotNull
+    @Override
+    public ElmTypeDeclarationStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+        return new ElmTypeDeclarationStub(parentStub, this, StringRef.toString(dataStream.readName()));
+    }
+
+    @Override
+    public void indexStub(@NotNull ElmTypeDeclarationStub stub, @NotNull IndexSink sink) {
+    }
+}
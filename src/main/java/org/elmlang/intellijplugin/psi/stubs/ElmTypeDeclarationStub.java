@@ -0,0 +1,30 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.elmlang.intellijplugin.psi.ElmTypeDeclaration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.Stream;
+
+public class ElmTypeDeclarationStub extends StubBase<ElmTypeDeclaration> {
+    private final String name;
+
+    ElmTypeDeclarationStub(StubElement parent, IStubElementType elementType, @NotNull String name) {
+        super(parent, elementType);
+        this.name = name;
+    }
+
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+
+    @NotNull
+    public Stream<ElmUnionMemberStub> getUnionMembers() {
+        return this.getChildrenStubs().stream()
+                .filter(s -> s instanceof ElmUnionMemberStub)
+                .map(s -> (ElmUnionMemberStub) s);
+    }
+}
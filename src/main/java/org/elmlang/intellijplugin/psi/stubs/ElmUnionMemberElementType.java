@@ -0,0 +1,49 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.util.io.StringRef;
+import org.elmlang.intellijplugin.psi.ElmTypeDeclaration;
+import org.elmlang.intellijplugin.psi.ElmUnionMember;
+import org.elmlang.intellijplugin.psi.impl.ElmUnionMemberImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class ElmUnionMemberElementType extends ElmStubElementType<ElmUnionMemberStub, ElmUnionMember> {
+    ElmUnionMemberElementType(@NotNull String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ElmUnionMember createPsi(@NotNull ElmUnionMemberStub stub) {
+        return new ElmUnionMemberImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ElmUnionMemberStub createStub(@NotNull ElmUnionMember psi, StubElement parentStub) {
+        String unionTypeName = ((ElmTypeDeclaration) psi.getParent()).getUpperCaseId().getText();
+        return new ElmUnionMemberStub(parentStub, this, psi.getUpperCaseId().getText(), unionTypeName);
+    }
+
+    @Override
+    public void serialize(@NotNull ElmUnionMemberStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+        dataStream.writeName(stub.getName());
+        dataStream.writeName(stub.getUnionTypeName());
+    }
+
+    @NotNull
+    @Override
+    public ElmUnionMemberStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+        String name = StringRef.toString(dataStream.readName());
+        String unionTypeName = StringRef.toString(dataStream.readName());
+        return new ElmUnionMemberStub(parentStub, this, name, unionTypeName);
+    }
+
+    @Override
+    public void indexStub(@NotNull ElmUnionMemberStub stub, @NotNull IndexSink sink) {
+    }
+}
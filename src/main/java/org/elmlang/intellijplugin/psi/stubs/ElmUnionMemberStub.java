@@ -0,0 +1,31 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.elmlang.intellijplugin.psi.ElmUnionMember;
+import org.jetbrains.annotations.NotNull;
+
+public class ElmUnionMemberStub extends StubBase<ElmUnionMember> {
+    private final String name;
+    private final String unionTypeName;
+
+    ElmUnionMemberStub(StubElement parent, IStubElementType elementType, @NotNull String name, @NotNull String unionTypeName) {
+        super(parent, elementType);
+        this.name = name;
+        this.unionTypeName = unionTypeName;
+    }
+
+    @NotNull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return name of the union type declaring this constructor, needed to import it as `Type(Constructor)`
+     */
+    @NotNull
+    public String getUnionTypeName() {
+        return this.unionTypeName;
+    }
+}
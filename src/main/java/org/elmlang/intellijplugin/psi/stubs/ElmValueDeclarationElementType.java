@@ -0,0 +1,50 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.elmlang.intellijplugin.psi.ElmValueDeclaration;
+import org.elmlang.intellijplugin.psi.impl.ElmPsiImplUtil;
+import org.elmlang.intellijplugin.psi.impl.ElmValueDeclarationImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ElmValueDeclarationElementType extends ElmStubElementType<ElmValueDeclarationStub, ElmValueDeclaration> {
+    ElmValueDeclarationElementType(@NotNull String debugName) {
+        super(debugName);
+    }
+
+    @Override
+    public ElmValueDeclaration createPsi(@NotNull ElmValueDeclarationStub stub) {
+        return new ElmValueDeclarationImpl(stub, this);
+    }
+
+    @NotNull
+    @Override
+    public ElmValueDeclarationStub createStub(@NotNull ElmValueDeclaration psi, StubElement parentStub) {
+        List<String> names = ElmPsiImplUtil.getDeclarationsFromPattern(psi.getPattern())
+                .map(PsiElement::getText)
+                .collect(Collectors.toList());
+        return new ElmValueDeclarationStub(parentStub, this, names);
+    }
+
+    @Override
+    public void serialize(@NotNull ElmValueDeclarationStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+        writeNames(dataStream, stub.getPatternNames());
+    }
+
+    @NotNull
+    @Override
+    public ElmValueDeclarationStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+        return new ElmValueDeclarationStub(parentStub, this, readNames(dataStream));
+    }
+
+    @Override
+    public void indexStub(@NotNull ElmValueDeclarationStub stub, @NotNull IndexSink sink) {
+    }
+}
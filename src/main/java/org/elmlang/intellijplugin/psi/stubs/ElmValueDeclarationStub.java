@@ -0,0 +1,38 @@
+package org.elmlang.intellijplugin.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.elmlang.intellijplugin.psi.ElmValueDeclaration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class ElmValueDeclarationStub extends StubBase<ElmValueDeclaration> {
+    private final List<String> patternNames;
+
+    ElmValueDeclarationStub(StubElement parent, IStubElementType elementType, @NotNull List<String> patternNames) {
+        super(parent, elementType);
+        this.patternNames = patternNames;
+    }
+
+    /**
+     * @return names bound by the pattern on the left side of the declaration,
+     * e.g. `a` and `b` in `(a, b) = ...`. Empty for function declarations.
+     */
+    @NotNull
+    public List<String> getPatternNames() {
+        return this.patternNames;
+    }
+
+    @NotNull
+    public Stream<String> getDefinedNames() {
+        return Stream.concat(
+                this.patternNames.stream(),
+                this.getChildrenStubs().stream()
+                        .filter(s -> s instanceof ElmFunctionDeclarationLeftStub)
+                        .map(s -> ((ElmFunctionDeclarationLeftStub) s).getName())
+        );
+    }
+}
@@ -1,9 +1,5 @@
 package org.elmlang.intellijplugin.utils;
 
-import com.intellij.openapi.util.Pair;
-
-import java.util.Set;
-
 public interface TypeFilter {
     boolean testType(String name);
 
@@ -25,21 +21,6 @@ public interface TypeFilter {
         };
     }
 
-    static TypeFilter fromSets(Set<String> types, Set<Pair<String, String>> typeMembers) {
-        return new TypeFilter() {
-            @Override
-            public boolean testType(String name) {
-                return types.contains(name);
-            }
-
-            @Override
-            public boolean testTypeMember(String typeName, String memberName) {
-                return typeMembers.contains(Pair.create(typeName, memberName))
-                        || typeMembers.contains(Pair.create(typeName, ALL_MEMBERS));
-            }
-        };
-    }
-
     static TypeFilter byText(String text) {
         return new TypeFilter() {
             @Override
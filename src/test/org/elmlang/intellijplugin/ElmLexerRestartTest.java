@@ -0,0 +1,105 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.lexer.DelegateLexer;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.colors.EditorColorsManager;
+import com.intellij.openapi.editor.colors.TextAttributesKey;
+import com.intellij.openapi.editor.ex.util.LexerEditorHighlighter;
+import com.intellij.openapi.editor.highlighter.HighlighterIterator;
+import com.intellij.openapi.fileTypes.SyntaxHighlighterBase;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ElmLexerRestartTest extends LightPlatformCodeInsightFixtureTestCase {
+    private static final String NESTED_COMMENTS = "{- one {- two {- three -} two -} one -}\n";
+
+    public void testRestartAtEveryToken() {
+        String text = "module Main exposing (..)\n\n"
+                + NESTED_COMMENTS
+                + "shader = [glsl| void main () {} |]\n"
+                + NESTED_COMMENTS
+                + "value = 1\n";
+        List<String> tokens = lex(new ElmLexerAdapter(), text, 0, 0);
+        Lexer lexer = new ElmLexerAdapter();
+        lexer.start(text);
+        for (int i = 0; lexer.getTokenType() != null; i++, lexer.advance()) {
+            assertEquals(
+                    "restarting at " + lexer.getTokenStart(),
+                    tokens.subList(i, tokens.size()),
+                    lex(new ElmLexerAdapter(), text, lexer.getTokenStart(), lexer.getState())
+            );
+        }
+    }
+
+    public void testEditDeepInsideLargeFileRelexesBoundedRange() {
+        StringBuilder text = new StringBuilder("module Main exposing (..)\n\n");
+        for (int i = 0; i < 2000; i++) {
+            text.append(NESTED_COMMENTS).append("value").append(i).append(" = ").append(i).append("\n\n");
+        }
+        int editOffset = text.indexOf("three", text.indexOf("value1000 ="));
+
+        CountingLexer lexer = new CountingLexer();
+        LexerEditorHighlighter highlighter = new LexerEditorHighlighter(new SyntaxHighlighterBase() {
+            @NotNull
+            @Override
+            public Lexer getHighlightingLexer() {
+                return lexer;
+            }
+
+            @NotNull
+            @Override
+            public TextAttributesKey[] getTokenHighlights(IElementType tokenType) {
+                return TextAttributesKey.EMPTY_ARRAY;
+            }
+        }, EditorColorsManager.getInstance().getGlobalScheme());
+        Document document = EditorFactory.getInstance().createDocument(text);
+        highlighter.setText(document.getImmutableCharSequence());
+        document.addDocumentListener(highlighter);
+        int fullLexCount = lexer.advanceCount;
+
+        lexer.advanceCount = 0;
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(editOffset, "{- four -} "));
+
+        assertTrue("re-lexed " + lexer.advanceCount + " of " + fullLexCount + " tokens", lexer.advanceCount < 100);
+        assertEquals(lex(new ElmLexerAdapter(), document.getText(), 0, 0), getHighlighterTokens(highlighter));
+    }
+
+    private static List<String> lex(Lexer lexer, CharSequence text, int start, int state) {
+        List<String> tokens = new ArrayList<>();
+        lexer.start(text, start, text.length(), state);
+        while (lexer.getTokenType() != null) {
+            tokens.add(lexer.getTokenType() + "@" + lexer.getTokenStart());
+            lexer.advance();
+        }
+        return tokens;
+    }
+
+    private static List<String> getHighlighterTokens(LexerEditorHighlighter highlighter) {
+        List<String> tokens = new ArrayList<>();
+        for (HighlighterIterator iterator = highlighter.createIterator(0); !iterator.atEnd(); iterator.advance()) {
+            tokens.add(iterator.getTokenType() + "@" + iterator.getStart());
+        }
+        return tokens;
+    }
+
+    private static class CountingLexer extends DelegateLexer {
+        private int advanceCount;
+
+        private CountingLexer() {
+            super(new ElmLexerAdapter());
+        }
+
+        @Override
+        public void advance() {
+            this.advanceCount++;
+            super.advance();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ElmLibraryRootsProviderTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    public void testApplicationUsesPackagesOfItsElmVersion() throws IOException {
+        this.createPackage("elm-home/0.19.0/package/elm/core/1.0.2", "elm.json");
+        this.createPackage("elm-home/0.19.1/packages/elm/core/1.0.2", "elm.json");
+        this.createPackage("elm-home/0.19.1/packages/elm/core/1.0.5", "elm.json");
+        this.createPackage("elm-home/0.19.1/packages/elm/json/1.1.3", "elm.json");
+        VirtualFile project = this.createFile("project/elm.json", "{\n" +
+                "    \"type\": \"application\",\n" +
+                "    \"elm-version\": \"0.19.1\",\n" +
+                "    \"dependencies\": {\n" +
+                "        \"direct\": { \"elm/core\": \"1.0.2\" },\n" +
+                "        \"indirect\": { \"elm/json\": \"1.1.3\" }\n" +
+                "    },\n" +
+                "    \"test-dependencies\": { \"direct\": {}, \"indirect\": {} }\n" +
+                "}").getParent();
+
+        assertEquals(Arrays.asList(
+                "elm-home/0.19.1/packages/elm/core/1.0.2/src",
+                "elm-home/0.19.1/packages/elm/json/1.1.3/src"
+        ), this.getSourceRoots(project));
+    }
+
+    public void testPackageUsesHighestVersionsWithinRanges() throws IOException {
+        this.createPackage("elm-home/0.19.0/package/elm/core/1.0.0", "elm.json");
+        this.createPackage("elm-home/0.19.1/packages/elm/core/1.0.0", "elm.json");
+        this.createPackage("elm-home/0.19.1/packages/elm/core/1.0.5", "elm.json");
+        this.createPackage("elm-home/0.19.1/packages/elm/core/2.0.0", "elm.json");
+        this.createPackage("elm-home/0.20.0/packages/elm/core/1.0.5", "elm.json");
+        VirtualFile project = this.createFile("project/elm.json", "{\n" +
+                "    \"type\": \"package\",\n" +
+                "    \"elm-version\": \"0.19.0 <= v < 0.20.0\",\n" +
+                "    \"dependencies\": { \"elm/core\": \"1.0.0 <= v < 2.0.0\" },\n" +
+                "    \"test-dependencies\": {}\n" +
+                "}").getParent();
+
+        assertEquals(
+                Arrays.asList("elm-home/0.19.1/packages/elm/core/1.0.5/src"),
+                this.getSourceRoots(project)
+        );
+    }
+
+    public void testElmPackageJsonUsesExactDependencies() throws IOException {
+        this.createPackage("project/elm-stuff/packages/elm-lang/core/5.1.1", "elm-package.json");
+        this.createPackage("project/elm-stuff/packages/elm-lang/html/2.0.0", "elm-package.json");
+        this.createFile("project/elm-stuff/exact-dependencies.json", "{\n" +
+                "    \"elm-lang/core\": \"5.1.1\",\n" +
+                "    \"elm-lang/html\": { \"version\": \"2.0.0\" }\n" +
+                "}");
+        VirtualFile project = this.createFile("project/elm-package.json", "{ \"source-directories\": [\".\"] }").getParent();
+
+        assertEquals(
+                Arrays.asList("project/elm-stuff/packages/elm-lang/core/5.1.1/src"),
+                this.getSourceRoots(project)
+        );
+    }
+
+    public void testSkipsSourceDirectoriesWhichAreNotStrings() throws IOException {
+        this.createFile("project/elm-stuff/packages/elm-lang/core/5.1.1/elm-package.json",
+                "{ \"source-directories\": [{ \"path\": \"lib\" }, null, \"src\"] }");
+        this.createFile("project/elm-stuff/packages/elm-lang/core/5.1.1/src/Main.elm", "module Main exposing (..)\n");
+        this.createFile("project/elm-stuff/exact-dependencies.json", "{ \"elm-lang/core\": \"5.1.1\" }");
+        VirtualFile project = this.createFile("project/elm-package.json", "{ \"source-directories\": [\".\"] }").getParent();
+
+        assertEquals(
+                Arrays.asList("project/elm-stuff/packages/elm-lang/core/5.1.1/src"),
+                this.getSourceRoots(project)
+        );
+    }
+
+    private List<String> getSourceRoots(VirtualFile project) {
+        VirtualFile tempDir = myFixture.getTempDirFixture().getFile("");
+        VirtualFile elmHome = myFixture.getTempDirFixture().getFile("elm-home");
+        return ElmLibraryRootsProvider.getPackageSourceRoots(project, elmHome).stream()
+                .map(root -> VfsUtilCore.getRelativePath(root, tempDir))
+                .collect(Collectors.toList());
+    }
+
+    private void createPackage(String path, String descriptorName) throws IOException {
+        this.createFile(path + "/" + descriptorName, "{ \"source-directories\": [\"src\"] }");
+        this.createFile(path + "/src/Main.elm", "module Main exposing (..)\n");
+    }
+
+    private VirtualFile createFile(String path, String text) throws IOException {
+        return myFixture.getTempDirFixture().createFile(path, text);
+    }
+}
@@ -0,0 +1,36 @@
+package org.elmlang.intellijplugin;
+
+import junit.framework.TestCase;
+
+public class ElmModuleIndexTest extends TestCase {
+    public void testModuleName() {
+        assertEquals("Main", ElmModuleIndex.readModuleName("module Main exposing (..)\n\nmain = 1\n"));
+    }
+
+    public void testPathName() {
+        assertEquals("Foo.Bar.Baz", ElmModuleIndex.readModuleName("module Foo.Bar.Baz exposing (a, B(..))\n"));
+    }
+
+    public void testPortAndEffectModules() {
+        assertEquals("Ports", ElmModuleIndex.readModuleName("port module Ports exposing (..)\n"));
+        assertEquals("Task", ElmModuleIndex.readModuleName("effect module Task where { command = MyCmd } exposing (Task)\n"));
+    }
+
+    public void testLeadingCommentsAndLines() {
+        assertEquals("Main", ElmModuleIndex.readModuleName("\n-- comment\n{- block {- nested -} -}\nmodule Main exposing (..)\n"));
+    }
+
+    public void testBodyIsNotRead() {
+        String header = "module Main exposing (..)\n";
+        assertEquals(
+                ElmModuleIndex.readModuleName(header + "a = 1\n"),
+                ElmModuleIndex.readModuleName(header + "module Other exposing (..)\n")
+        );
+    }
+
+    public void testNoModuleDeclaration() {
+        assertNull(ElmModuleIndex.readModuleName("main = 1\n"));
+        assertNull(ElmModuleIndex.readModuleName("module exposing (..)\n"));
+        assertNull(ElmModuleIndex.readModuleName(""));
+    }
+}
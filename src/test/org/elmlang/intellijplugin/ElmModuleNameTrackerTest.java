@@ -0,0 +1,23 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase;
+
+public class ElmModuleNameTrackerTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    public void testEditOfBodyIsNotCounted() {
+        myFixture.configureByText("Main.elm", "module Main exposing (..)\n\nvalue =\n    1<caret>\n");
+        long count = ElmModuleNameTracker.getInstance(getProject()).getModificationCount();
+        myFixture.type(" + 2");
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        assertEquals(count, ElmModuleNameTracker.getInstance(getProject()).getModificationCount());
+    }
+
+    public void testEditOfModuleNameIsCounted() {
+        myFixture.configureByText("Main.elm", "module Main<caret> exposing (..)\n\nvalue =\n    1\n");
+        long count = ElmModuleNameTracker.getInstance(getProject()).getModificationCount();
+        myFixture.type("2");
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        assertTrue(ElmModuleNameTracker.getInstance(getProject()).getModificationCount() > count);
+    }
+}
@@ -0,0 +1,81 @@
+package org.elmlang.intellijplugin;
+
+import com.intellij.lang.LanguageParserDefinitions;
+import com.intellij.lang.PsiParser;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.impl.DebugUtil;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase;
+import org.elmlang.intellijplugin.psi.ElmValueDeclaration;
+import org.jetbrains.annotations.Nullable;
+
+public class ElmReparseTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "src/test/resources/testData/reparse";
+    }
+
+    public void testCaseOf() {
+        doTest(" + 1", "bar");
+    }
+
+    public void testLetIn() {
+        doTest(" + 1", "bar");
+    }
+
+    public void testSingleLineCaseOf() {
+        doTest(" + 1", "bar");
+    }
+
+    public void testNewDeclaration() {
+        doTest("\n\nbaz =\n    3", null);
+    }
+
+    /**
+     * @param untouchedDeclaration name of a declaration whose PSI must survive an edit reparsed within the edited body, or null when the edit may reparse the whole file
+     */
+    private void doTest(String textToType, @Nullable String untouchedDeclaration) {
+        myFixture.configureByFile(getTestName(false) + ".elm");
+        PsiFile file = myFixture.getFile();
+        // parse the bodies of all declarations, so the edit is applied to a complete tree
+        DebugUtil.psiToString(file, false, true);
+        ElmValueDeclaration untouched = untouchedDeclaration != null ? findDeclaration(file, untouchedDeclaration) : null;
+
+        // the file parser is only used when the edit could not be reparsed within the body it touched
+        int[] fileParses = {0};
+        ElmParserDefinition countingDefinition = new ElmParserDefinition() {
+            @Override
+            public PsiParser createParser(Project project) {
+                fileParses[0]++;
+                return super.createParser(project);
+            }
+        };
+        LanguageParserDefinitions.INSTANCE.addExplicitExtension(ElmLanguage.INSTANCE, countingDefinition);
+        try {
+            myFixture.type(textToType);
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        } finally {
+            LanguageParserDefinitions.INSTANCE.removeExplicitExtension(ElmLanguage.INSTANCE, countingDefinition);
+        }
+
+        if (untouched != null) {
+            assertEquals("the edit was not reparsed within the body of the declaration", 0, fileParses[0]);
+            assertTrue("an edit of another declaration invalidated " + untouchedDeclaration, untouched.isValid());
+            assertSame(untouched, findDeclaration(file, untouchedDeclaration));
+        }
+        PsiFile fullyParsed = PsiFileFactory.getInstance(getProject())
+                .createFileFromText("fullyParsed.elm", ElmLanguage.INSTANCE, file.getText());
+        assertEquals(DebugUtil.psiToString(fullyParsed, false, true), DebugUtil.psiToString(file, false, true));
+    }
+
+    private static ElmValueDeclaration findDeclaration(PsiFile file, String name) {
+        return PsiTreeUtil.getChildrenOfTypeAsList(file, ElmValueDeclaration.class).stream()
+                .filter(d -> d.getText().startsWith(name + " "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no declaration of " + name));
+    }
+}
@@ -0,0 +1,95 @@
+package org.elmlang.intellijplugin.benchmarks;
+
+/**
+ * Generates a syntactically valid Elm module of configurable shape.
+ */
+public class ElmCorpusGenerator {
+    private int declarations = 100;
+    private int depth = 3;
+    private int imports = 10;
+    private int caseArity = 4;
+
+    public ElmCorpusGenerator withDeclarations(int declarations) {
+        this.declarations = declarations;
+        return this;
+    }
+
+    /**
+     * @param depth number of `case` and `let` expressions nested in each other in a declaration
+     */
+    public ElmCorpusGenerator withDepth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    public ElmCorpusGenerator withImports(int imports) {
+        this.imports = imports;
+        return this;
+    }
+
+    /**
+     * @param caseArity number of branches of each `case` expression, including the wildcard one
+     */
+    public ElmCorpusGenerator withCaseArity(int caseArity) {
+        this.caseArity = Math.max(1, caseArity);
+        return this;
+    }
+
+    public String generate() {
+        StringBuilder builder = new StringBuilder("module Generated exposing (..)\n\n");
+        for (int i = 0; i < this.imports; i++) {
+            builder.append("import Generated.Dependency").append(i)
+                    .append(" as D").append(i)
+                    .append(" exposing (value").append(i).append(")\n");
+        }
+        for (int i = 0; i < this.declarations; i++) {
+            builder.append("\n\n");
+            this.appendDeclaration(builder, i);
+        }
+        return builder.toString();
+    }
+
+    private void appendDeclaration(StringBuilder builder, int index) {
+        builder.append("value").append(index).append(" : Int -> Int\n")
+                .append("value").append(index).append(" x =\n");
+        this.appendExpression(builder, 1, this.depth, index);
+    }
+
+    private void appendExpression(StringBuilder builder, int level, int depth, int index) {
+        if (depth == 0) {
+            indent(builder, level).append("x + ").append(index).append('\n');
+        } else if (depth % 2 == 0) {
+            this.appendLetIn(builder, level, depth, index);
+        } else {
+            this.appendCaseOf(builder, level, depth, index);
+        }
+    }
+
+    private void appendCaseOf(StringBuilder builder, int level, int depth, int index) {
+        indent(builder, level).append("case x of\n");
+        for (int i = 0; i < this.caseArity - 1; i++) {
+            indent(builder, level + 1).append(i).append(" ->\n");
+            indent(builder, level + 2).append("[ x, ").append(i).append(" ]\n");
+            indent(builder, level + 3).append("|> List.sum\n\n");
+        }
+        indent(builder, level + 1).append("_ ->\n");
+        this.appendExpression(builder, level + 2, depth - 1, index);
+    }
+
+    private void appendLetIn(StringBuilder builder, int level, int depth, int index) {
+        indent(builder, level).append("let\n");
+        indent(builder, level + 1).append("y =\n");
+        indent(builder, level + 2).append("{ field = x }.field\n\n");
+        indent(builder, level + 1).append("z =\n");
+        this.appendExpression(builder, level + 2, depth - 1, index);
+        indent(builder, level).append("in\n");
+        indent(builder, level + 1).append("y + z\n");
+    }
+
+    private static StringBuilder indent(StringBuilder builder, int level) {
+        for (int i = 0; i < level; i++) {
+            builder.append("    ");
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,80 @@
+package org.elmlang.intellijplugin.benchmarks;
+
+/**
+ * Generates the modules of a project in which each module imports a few of the preceding ones,
+ * alternately qualified, exposing some values and aliased.
+ */
+public class ElmProjectGenerator {
+    private final int modules;
+    private final int fanOut;
+
+    public ElmProjectGenerator(int modules, int fanOut) {
+        this.modules = modules;
+        this.fanOut = fanOut;
+    }
+
+    public int getModuleCount() {
+        return this.modules;
+    }
+
+    public static String getPath(int index) {
+        return "Lib/M" + index + ".elm";
+    }
+
+    public String generateModule(int index) {
+        StringBuilder builder = new StringBuilder("module Lib.M").append(index).append(" exposing (..)\n\n");
+        this.appendImports(builder, index);
+        builder.append("\n\ntype Type").append(index).append("\n    = Ctor").append(index).append(" Int\n\n\n")
+                .append("value").append(index).append(" : Type").append(index).append(" -> Int\n")
+                .append("value").append(index).append(" (Ctor").append(index).append(" x) =\n    x");
+        this.appendUsages(builder, index);
+        return builder.append('\n').toString();
+    }
+
+    /**
+     * @return a module importing the last modules of the project, ending with an unfinished value
+     * where the caret is put
+     */
+    public String generateMain() {
+        int index = this.modules;
+        StringBuilder builder = new StringBuilder("module Main exposing (..)\n\n");
+        this.appendImports(builder, index);
+        builder.append("\n\nmain : Int\nmain =\n    0");
+        this.appendUsages(builder, index);
+        return builder.append("\n\n\ncompleted =\n    val<caret>\n").toString();
+    }
+
+    private void appendImports(StringBuilder builder, int index) {
+        for (int j = Math.max(0, index - this.fanOut); j < index; j++) {
+            builder.append("import Lib.M").append(j);
+            switch (j % 3) {
+                case 1:
+                    builder.append(" exposing (value").append(j).append(", Type").append(j).append("(..))");
+                    break;
+                case 2:
+                    builder.append(" as A").append(j);
+                    break;
+            }
+            builder.append('\n');
+        }
+    }
+
+    private void appendUsages(StringBuilder builder, int index) {
+        for (int j = Math.max(0, index - this.fanOut); j < index; j++) {
+            builder.append("\n        + ");
+            switch (j % 3) {
+                case 0:
+                    builder.append("Lib.M").append(j).append(".value").append(j)
+                            .append(" (Lib.M").append(j).append(".Ctor").append(j).append(" 1)");
+                    break;
+                case 1:
+                    builder.append("value").append(j).append(" (Ctor").append(j).append(" 1)");
+                    break;
+                case 2:
+                    builder.append("A").append(j).append(".value").append(j)
+                            .append(" (A").append(j).append(".Ctor").append(j).append(" 1)");
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.elmlang.intellijplugin.benchmarks;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lexer.Lexer;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.ParsingTestCase;
+import org.elmlang.intellijplugin.ElmLexerAdapter;
+import org.elmlang.intellijplugin.ElmParserDefinition;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the throughput of the lexer and the parser on generated modules.
+ * Skipped unless run with `-Delm.benchmarks=true`; results are printed to the standard output.
+ */
+public class ParserBenchmark extends ParsingTestCase {
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+
+    public ParserBenchmark() {
+        super("", "elm", new ElmParserDefinition());
+    }
+
+    public void testFlat() {
+        this.run(new ElmCorpusGenerator().withDeclarations(1000).withDepth(1).withCaseArity(4));
+    }
+
+    public void testDeeplyNested() {
+        this.run(new ElmCorpusGenerator().withDeclarations(100).withDepth(20).withCaseArity(4));
+    }
+
+    public void testWideCaseOf() {
+        this.run(new ElmCorpusGenerator().withDeclarations(20).withDepth(3).withCaseArity(200));
+    }
+
+    public void testManyImports() {
+        this.run(new ElmCorpusGenerator().withDeclarations(100).withImports(500));
+    }
+
+    private void run(ElmCorpusGenerator generator) {
+        if (!Boolean.getBoolean("elm.benchmarks")) {
+            return;
+        }
+        String text = generator.generate();
+        Measurement lexing = measure(() -> lex(text));
+        Measurement parsing = measure(() -> this.parse(text));
+        System.out.println(String.format(
+                "%s: %d chars, %s tokens/s, %s bytes/token, %s nodes/s, %s bytes/node",
+                this.getName(),
+                text.length(),
+                lexing.perSecond(),
+                lexing.bytesPerUnit(),
+                parsing.perSecond(),
+                parsing.bytesPerUnit()
+        ));
+    }
+
+    private static int lex(String text) {
+        Lexer lexer = new ElmLexerAdapter();
+        lexer.start(text);
+        int tokens = 0;
+        while (lexer.getTokenType() != null) {
+            tokens++;
+            lexer.advance();
+        }
+        return tokens;
+    }
+
+    private int parse(String text) {
+        PsiFile file = this.createPsiFile("Generated", text);
+        // the traversal also parses the lazily parsed bodies of the declarations
+        return countNodes(file.getNode());
+    }
+
+    private static int countNodes(ASTNode node) {
+        int count = 1;
+        for (ASTNode child = node.getFirstChildNode(); child != null; child = child.getTreeNext()) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    private static Measurement measure(Task task) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            task.run();
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long allocatedBefore = allocatedBytes(threads);
+        long start = System.nanoTime();
+        long units = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            units += task.run();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = allocatedBefore < 0 ? -1 : allocatedBytes(threads) - allocatedBefore;
+        return new Measurement(units, nanos, allocated);
+    }
+
+    private static long allocatedBytes(ThreadMXBean threads) {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private interface Task {
+        int run();
+    }
+
+    private static class Measurement {
+        private final long units;
+        private final long nanos;
+        private final long allocatedBytes;
+
+        private Measurement(long units, long nanos, long allocatedBytes) {
+            this.units = units;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        private long perSecond() {
+            return this.units * 1_000_000_000L / Math.max(1, this.nanos);
+        }
+
+        private String bytesPerUnit() {
+            return this.allocatedBytes < 0 ? "n/a" : String.valueOf(this.allocatedBytes / Math.max(1, this.units));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.elmlang.intellijplugin.benchmarks;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.ParsingTestCase;
+import org.elmlang.intellijplugin.ElmParserDefinition;
+
+/**
+ * Compares the parsing times of a body and of a body four times larger.
+ * Skipped unless run with `-Delm.benchmarks=true`, since timings depend on the machine.
+ */
+public class ParserScalingBenchmark extends ParsingTestCase {
+    private static final int SMALL_BRANCHES = 200;
+    private static final int ROUNDS = 5;
+
+    public ParserScalingBenchmark() {
+        super("", "elm", new ElmParserDefinition());
+    }
+
+    public void testNestedCaseOfScalesLinearly() {
+        if (!Boolean.getBoolean("elm.benchmarks")) {
+            return;
+        }
+        long small = this.bestParseTime(generateNestedCaseOf(SMALL_BRANCHES, 8));
+        long large = this.bestParseTime(generateNestedCaseOf(SMALL_BRANCHES * 4, 8));
+        // a four times larger body must not take sixteen times as long, as it did when indentation was measured from the start of the text
+        assertTrue("parsing time grows faster than the size: " + small + "ns -> " + large + "ns", large < small * 8);
+    }
+
+    private long bestParseTime(String text) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            PsiFile file = this.createPsiFile("Generated", text);
+            ensureParsed(file);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * A single top-level value whose body is a `case` with `branches` branches, each nesting `depth` more `case` expressions.
+     */
+    private static String generateNestedCaseOf(int branches, int depth) {
+        StringBuilder builder = new StringBuilder("module Generated exposing (..)\n\n\nf x =\n    case x of\n");
+        for (int i = 0; i < branches; i++) {
+            builder.append(indent(2)).append(i).append(" ->\n");
+            for (int d = 0; d < depth; d++) {
+                builder.append(indent(3 + 2 * d)).append("case x of\n")
+                        .append(indent(4 + 2 * d)).append("_ ->\n");
+            }
+            builder.append(indent(3 + 2 * depth)).append("x + ").append(i).append("\n\n");
+        }
+        builder.append(indent(2)).append("_ ->\n").append(indent(3)).append("x\n");
+        return builder.toString();
+    }
+
+    private static String indent(int level) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < level; i++) {
+            builder.append("    ");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package org.elmlang.intellijplugin.benchmarks;
+
+import com.intellij.codeInsight.daemon.impl.analysis.HighlightInfoHolder;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase;
+import org.elmlang.intellijplugin.ElmModuleFiles;
+import org.elmlang.intellijplugin.features.syntaxHighlighting.ElmHighlightVisitor;
+import org.elmlang.intellijplugin.psi.references.ElmAbsoluteValueReference;
+import org.elmlang.intellijplugin.psi.references.ElmTypeReference;
+import org.elmlang.intellijplugin.psi.references.ElmValueReference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures resolving, highlighting and completing in a module of generated projects of growing size.
+ * Skipped unless run with `-Delm.benchmarks=true`.
+ * The expected times are the same for all sizes, so paths scaling with the size of the project fail on the large ones.
+ */
+public class ResolveBenchmark extends LightPlatformCodeInsightFixtureTestCase {
+    private static final int FAN_OUT = 12;
+
+    public void testSmallProject() {
+        this.run(new ElmProjectGenerator(100, FAN_OUT));
+    }
+
+    public void testMediumProject() {
+        this.run(new ElmProjectGenerator(1_000, FAN_OUT));
+    }
+
+    public void testLargeProject() {
+        this.run(new ElmProjectGenerator(10_000, FAN_OUT));
+    }
+
+    private void run(ElmProjectGenerator generator) {
+        if (!Boolean.getBoolean("elm.benchmarks")) {
+            return;
+        }
+        for (int i = 0; i < generator.getModuleCount(); i++) {
+            myFixture.addFileToProject(ElmProjectGenerator.getPath(i), generator.generateModule(i));
+        }
+        myFixture.configureByText("Main.elm", generator.generateMain());
+        PsiFile file = myFixture.getFile();
+        String size = generator.getModuleCount() + " modules";
+
+        this.measureResolve("ElmValueReference.resolve, " + size, file, ElmValueReference.class);
+        this.measureResolve("ElmTypeReference.resolve, " + size, file, ElmTypeReference.class);
+        this.measureResolve("ElmAbsoluteValueReference.resolve, " + size, file, ElmAbsoluteValueReference.class);
+
+        PlatformTestUtil.startPerformanceTest("ElmHighlightVisitor, " + size, 500, () -> {
+            this.dropResolveCaches();
+            // the action stands for the highlighting pass, which visits every element of the file
+            ElmHighlightVisitor visitor = new ElmHighlightVisitor();
+            visitor.analyze(file, true, new HighlightInfoHolder(file), () -> PsiTreeUtil.processElements(file, element -> {
+                visitor.visit(element);
+                return true;
+            }));
+        }).cpuBound().assertTiming();
+
+        PlatformTestUtil.startPerformanceTest("Completion, " + size, 500, () -> {
+            this.dropResolveCaches();
+            myFixture.completeBasic();
+        }).cpuBound().assertTiming();
+
+        System.out.println(size + ": " + ElmModuleFiles.getInstance(getProject()));
+    }
+
+    private void measureResolve(String name, PsiFile file, Class<? extends PsiReference> referenceClass) {
+        List<PsiReference> references = collectReferences(file, referenceClass);
+        assertFalse("no reference to measure for " + name, references.isEmpty());
+        PlatformTestUtil.startPerformanceTest(name, 100, () -> {
+            this.dropResolveCaches();
+            references.forEach(PsiReference::resolve);
+        }).cpuBound().assertTiming();
+    }
+
+    private static List<PsiReference> collectReferences(PsiFile file, Class<? extends PsiReference> referenceClass) {
+        List<PsiReference> references = new ArrayList<>();
+        PsiTreeUtil.processElements(file, element -> {
+            Arrays.stream(element.getReferences())
+                    .filter(referenceClass::isInstance)
+                    .forEach(references::add);
+            return true;
+        });
+        return references;
+    }
+
+    private void dropResolveCaches() {
+        PsiManager.getInstance(getProject()).dropResolveCaches();
+    }
+}
@@ -92,6 +92,18 @@ public class ElmImportQuickFixTest extends LightPlatformCodeInsightFixtureTestCa
         myFixture.checkResultByFile("Types_after.elm", true);
     }
 
+    public void testImportAll() {
+        myFixture.configureByFiles("ImportAll.elm", "LibraryA.elm", "LibraryTypes.elm");
+        myFixture.launchAction(new ElmImportAllQuickFix());
+        myFixture.checkResultByFile("ImportAll_after.elm", true);
+    }
+
+    public void testImportAllWithExistingImports() {
+        myFixture.configureByFiles("ImportAllExisting.elm", "LibraryA.elm", "LibraryB.elm", "LibraryC.elm", "LibraryTypes.elm");
+        myFixture.launchAction(new ElmImportAllQuickFix());
+        myFixture.checkResultByFile("ImportAllExisting_after.elm", true);
+    }
+
     public void testRestrictedLocations() {
         myFixture.configureByFiles("Restrictions.elm", "LibraryA.elm");
         myFixture.doHighlighting();
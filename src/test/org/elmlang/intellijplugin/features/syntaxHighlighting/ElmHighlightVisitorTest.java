@@ -0,0 +1,41 @@
+package org.elmlang.intellijplugin.features.syntaxHighlighting;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ElmHighlightVisitorTest extends LightPlatformCodeInsightFixtureTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "src/test/resources/testData/highlighting";
+    }
+
+    public void testNames() {
+        myFixture.configureByFile("Names.elm");
+        List<String> names = myFixture.doHighlighting().stream()
+                .filter(info -> info.forcedTextAttributesKey != null)
+                .sorted(Comparator.comparingInt(HighlightInfo::getStartOffset))
+                .map(info -> info.getText() + ":" + info.forcedTextAttributesKey.getExternalName())
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(
+                // the exposed `Model` of the module declaration is not highlighted as a type
+                "Model:ELM_TYPE",
+                "Empty:ELM_TYPE",
+                "view:ELM_TYPE_ANNOTATION_NAME",
+                "Model:ELM_TYPE_ANNOTATION_SIGNATURE_TYPES",
+                "Model:ELM_TYPE_ANNOTATION_SIGNATURE_TYPES",
+                "view:ELM_DEFINITION_NAME",
+                "Empty:ELM_TYPE"
+        ), names);
+    }
+
+    public void testUnresolvedReferences() {
+        myFixture.configureByFile("UnresolvedReferences.elm");
+        myFixture.checkHighlighting();
+    }
+}
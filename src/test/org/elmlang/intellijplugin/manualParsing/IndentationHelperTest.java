@@ -0,0 +1,58 @@
+package org.elmlang.intellijplugin.manualParsing;
+
+import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
+
+public class IndentationHelperTest extends TestCase {
+
+    public void testIndentation() {
+        String text = "f x =\n    case x of\n        _ ->";
+        assertEquals(8, IndentationHelper.getIndentation(text, 0, text.indexOf('_')));
+        assertEquals(4, IndentationHelper.getIndentation(text, 0, text.indexOf("case")));
+        assertEquals(0, IndentationHelper.getIndentation(text, 0, text.indexOf('x')));
+    }
+
+    public void testOnlyLastLineIsRead() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append("    x + ").append(i).append("\n");
+        }
+        builder.append("        y");
+        CountingCharSequence text = new CountingCharSequence(builder);
+
+        assertEquals(8, IndentationHelper.getIndentation(text, 0, text.length() - 1));
+        // measuring from the start of the text made parsing quadratic in the size of a declaration
+        assertEquals(9, text.reads);
+    }
+
+    private static class CountingCharSequence implements CharSequence {
+        private final CharSequence text;
+        private int reads;
+
+        private CountingCharSequence(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return this.text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            this.reads++;
+            return this.text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return this.text.subSequence(start, end);
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            return this.text.toString();
+        }
+    }
+}
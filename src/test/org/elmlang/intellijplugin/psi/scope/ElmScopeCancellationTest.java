@@ -0,0 +1,46 @@
+package org.elmlang.intellijplugin.psi.scope;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.util.ProgressIndicatorBase;
+import com.intellij.testFramework.fixtures.LightPlatformCodeInsightFixtureTestCase;
+import org.elmlang.intellijplugin.psi.ElmFile;
+import org.elmlang.intellijplugin.psi.ElmUpperCaseId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ElmScopeCancellationTest extends LightPlatformCodeInsightFixtureTestCase {
+    private static final int MODULES = 50;
+
+    public void testCancelledTypesDoNotReachImportedModules() {
+        StringBuilder main = new StringBuilder("module Main exposing (..)\n\n");
+        for (int i = 0; i < MODULES; i++) {
+            myFixture.addFileToProject("M" + i + ".elm", "module M" + i + " exposing (..)\n\ntype T" + i + " = C" + i + "\n");
+            main.append("import M").append(i).append(" exposing (..)\n");
+        }
+        main.append("\ntype Local = Local\n");
+        ElmFile file = (ElmFile) myFixture.configureByText("Main.elm", main.toString());
+
+        // cancel the indicator as soon as the first type is found, as typing does for the daemon
+        ProgressIndicatorBase indicator = new ProgressIndicatorBase();
+        List<ElmUpperCaseId> found = new ArrayList<>();
+        try {
+            ProgressManager.getInstance().runProcess(
+                    () -> ElmScope.typesFor(file).forEach(t -> {
+                        found.add(t);
+                        indicator.cancel();
+                    }),
+                    indicator
+            );
+            fail("the resolve should have been cancelled");
+        } catch (ProcessCanceledException expected) {
+            // cancelled before gathering the types of the imported modules
+        }
+
+        assertFalse(found.isEmpty());
+        for (ElmUpperCaseId type : found) {
+            assertEquals(file, type.getContainingFile());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+module Main exposing (Model, view)
+
+
+type Model
+    = Empty
+
+
+view : Model -> Model
+view model =
+    Empty
@@ -0,0 +1,7 @@
+module Main exposing (..)
+
+import <error descr="Cannot find module \"Missing\". Make sure the package is listed in elm.json or elm-package.json and has been installed.">Missing</error>
+
+
+value =
+    <error descr="Cannot find symbol \"missing\".">missing</error>
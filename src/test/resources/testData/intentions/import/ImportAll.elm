@@ -0,0 +1,19 @@
+module ImportAll exposing (..)
+
+main =
+    text "Stuff: "
+        ++ (behaviorToString Modal)
+        ++ ", "
+        ++ (nonsenseToString someNonsense)
+        ++ LibraryA.avril14th
+
+behaviorToString : Behavior -> String
+behaviorToString behavior =
+    case behavior of
+        Overlay -> "Overlay"
+        Modal -> "Modal"
+        NonModal -> "NonModal"
+
+
+someNonsense : Nonsense
+someNonsense = makeNonsense 99
@@ -0,0 +1,9 @@
+module Main exposing (..)
+
+import LibraryB
+import LibraryTypes exposing (Behavior)
+
+main =
+    LibraryA.avril14th
+        ++ LibraryC.calamity
+        ++ nonsenseToString (makeNonsense 1)
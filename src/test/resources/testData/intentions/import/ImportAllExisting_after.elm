@@ -0,0 +1,11 @@
+module Main exposing (..)
+
+import LibraryA
+import LibraryB
+import LibraryC
+import LibraryTypes exposing (Behavior, makeNonsense, nonsenseToString)
+
+main =
+    LibraryA.avril14th
+        ++ LibraryC.calamity
+        ++ nonsenseToString (makeNonsense 1)
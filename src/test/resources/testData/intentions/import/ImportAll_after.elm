@@ -0,0 +1,22 @@
+module ImportAll exposing (..)
+
+import LibraryA
+import LibraryTypes exposing (Behavior(Modal, NonModal, Overlay), Nonsense, makeNonsense, nonsenseToString)
+
+main =
+    text "Stuff: "
+        ++ (behaviorToString Modal)
+        ++ ", "
+        ++ (nonsenseToString someNonsense)
+        ++ LibraryA.avril14th
+
+behaviorToString : Behavior -> String
+behaviorToString behavior =
+    case behavior of
+        Overlay -> "Overlay"
+        Modal -> "Modal"
+        NonModal -> "NonModal"
+
+
+someNonsense : Nonsense
+someNonsense = makeNonsense 99
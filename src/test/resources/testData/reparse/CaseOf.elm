@@ -0,0 +1,14 @@
+module CaseOf exposing (..)
+
+
+foo x =
+    case x of
+        Just y ->
+            y<caret>
+
+        Nothing ->
+            0
+
+
+bar =
+    1
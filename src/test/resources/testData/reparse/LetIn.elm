@@ -0,0 +1,16 @@
+module LetIn exposing (..)
+
+
+foo =
+    let
+        a =
+            1<caret>
+
+        b =
+            2
+    in
+        a + b
+
+
+bar =
+    1
@@ -0,0 +1,9 @@
+module NewDeclaration exposing (..)
+
+
+foo =
+    1<caret>
+
+
+bar =
+    2
@@ -0,0 +1,10 @@
+module SingleLineCaseOf exposing (..)
+
+
+foo x = case x of
+          Just y -> y<caret>
+          Nothing -> 0
+
+
+bar =
+    1